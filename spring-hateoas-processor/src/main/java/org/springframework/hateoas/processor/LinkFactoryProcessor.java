@@ -0,0 +1,639 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Annotation processor generating link factories for Spring MVC controllers. For every controller type declaring
+ * request mapped methods a {@code …Links} class is generated into the controller's package. It exposes a static
+ * method per handler method taking the {@code @PathVariable} and {@code @RequestParam} arguments in declaration order
+ * and returning the same {@code ControllerLinkBuilder} as {@code linkTo(methodOn(…).method(…))} would, without any
+ * reflection or proxies involved at runtime. The {@code ControllerLinkTemplate}s backing these methods are exposed as
+ * constants, so that they can be expanded through a {@code ControllerLinkBuilderFactory} configured with
+ * {@code UriComponentsContributor}s, too.
+ * <p>
+ * Only handler methods whose path variables and request parameters are of {@link String}, primitive, wrapper,
+ * {@link java.util.UUID} or enum types (or {@link java.util.Collection}s of those for request parameters) are
+ * considered. All others are skipped with a note as their rendering depends on the runtime conversion setup.
+ *
+ * @author agent
+ * @since 0.24
+ */
+@SupportedAnnotationTypes({ LinkFactoryProcessor.REQUEST_MAPPING, //
+		LinkFactoryProcessor.ANNOTATION_PACKAGE + "GetMapping", //
+		LinkFactoryProcessor.ANNOTATION_PACKAGE + "PostMapping", //
+		LinkFactoryProcessor.ANNOTATION_PACKAGE + "PutMapping", //
+		LinkFactoryProcessor.ANNOTATION_PACKAGE + "DeleteMapping", //
+		LinkFactoryProcessor.ANNOTATION_PACKAGE + "PatchMapping" })
+public class LinkFactoryProcessor extends AbstractProcessor {
+
+	static final String ANNOTATION_PACKAGE = "org.springframework.web.bind.annotation.";
+	static final String REQUEST_MAPPING = ANNOTATION_PACKAGE + "RequestMapping";
+
+	private static final String PATH_VARIABLE = ANNOTATION_PACKAGE + "PathVariable";
+	private static final String REQUEST_PARAM = ANNOTATION_PACKAGE + "RequestParam";
+	// Mirrors ValueConstants.DEFAULT_NONE
+	private static final String DEFAULT_NONE = "\n\t\t\n\t\t\n\uE000\uE001\uE002\n\t\t\t\t\n";
+
+	private static final String TEMPLATE_TYPE = "org.springframework.hateoas.mvc.ControllerLinkTemplate";
+	private static final String BUILDER_TYPE = "org.springframework.hateoas.mvc.ControllerLinkBuilder";
+
+	private static final Set<String> VALUE_TYPES = new HashSet<String>(Arrays.asList(String.class.getName(),
+			Long.class.getName(), Integer.class.getName(), Short.class.getName(), Byte.class.getName(),
+			Boolean.class.getName(), Character.class.getName(), Double.class.getName(), Float.class.getName(),
+			java.util.UUID.class.getName()));
+
+	private static final Pattern MULTIPLE_SLASHES = Pattern.compile("\\/{2,}");
+
+	private final Set<String> generated = new HashSet<String>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		Map<TypeElement, Set<ExecutableElement>> controllers = new LinkedHashMap<TypeElement, Set<ExecutableElement>>();
+
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+
+				if (element.getKind() != ElementKind.METHOD) {
+					continue;
+				}
+
+				TypeElement controller = (TypeElement) element.getEnclosingElement();
+				Set<ExecutableElement> methods = controllers.get(controller);
+
+				if (methods == null) {
+					methods = new LinkedHashSet<ExecutableElement>();
+					controllers.put(controller, methods);
+				}
+
+				methods.add((ExecutableElement) element);
+			}
+		}
+
+		for (Entry<TypeElement, Set<ExecutableElement>> entry : controllers.entrySet()) {
+			generateLinkFactory(entry.getKey(), entry.getValue());
+		}
+
+		// Don't claim Spring's annotations so that other processors see them, too
+		return false;
+	}
+
+	private void generateLinkFactory(TypeElement controller, Set<ExecutableElement> methods) {
+
+		String packageName = getPackage(controller).getQualifiedName().toString();
+		String className = getFactoryName(controller);
+		String qualifiedName = packageName.isEmpty() ? className : packageName.concat(".").concat(className);
+
+		if (!generated.add(qualifiedName)) {
+			return;
+		}
+
+		String typeMapping = getTypeMapping(controller);
+		List<LinkMethod> linkMethods = new ArrayList<LinkMethod>();
+		Set<String> signatures = new HashSet<String>();
+		Set<String> constants = new HashSet<String>();
+
+		for (Element element : controller.getEnclosedElements()) {
+
+			if (!methods.contains(element)) {
+				continue;
+			}
+
+			ExecutableElement method = (ExecutableElement) element;
+			LinkMethod linkMethod = createLinkMethod(typeMapping, method);
+
+			if (linkMethod == null) {
+				continue;
+			}
+
+			if (!signatures.add(linkMethod.getSignature())) {
+				note(method, "Skipping link factory method as another method with the same path variables and request "
+						+ "parameters already exists.");
+				continue;
+			}
+
+			String constant = toConstantName(method.getSimpleName().toString());
+			String candidate = constant;
+
+			for (int i = 2; !constants.add(candidate); i++) {
+				candidate = constant.concat("_").concat(String.valueOf(i));
+			}
+
+			linkMethod.constant = candidate;
+			linkMethods.add(linkMethod);
+		}
+
+		if (linkMethods.isEmpty()) {
+			return;
+		}
+
+		try {
+
+			Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, controller).openWriter();
+
+			try {
+				writer.write(render(packageName, className, controller, linkMethods));
+			} finally {
+				writer.close();
+			}
+
+		} catch (IOException o_O) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					String.format("Could not write link factory %s! %s", qualifiedName, o_O.getMessage()), controller);
+		}
+	}
+
+	/**
+	 * Creates a {@link LinkMethod} for the given handler method or returns {@literal null} in case no link factory
+	 * method can be generated for it.
+	 *
+	 * @param typeMapping can be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private LinkMethod createLinkMethod(String typeMapping, ExecutableElement method) {
+
+		String mapping = join(typeMapping, getMapping(method));
+
+		if (mapping == null || mapping.isEmpty()) {
+			note(method, "Skipping link factory method as no mapping could be found.");
+			return null;
+		}
+
+		LinkMethod result = new LinkMethod(method, mapping);
+
+		for (VariableElement parameter : method.getParameters()) {
+
+			AnnotationMirror pathVariable = getAnnotation(parameter, PATH_VARIABLE);
+			AnnotationMirror requestParam = getAnnotation(parameter, REQUEST_PARAM);
+
+			if (pathVariable == null && requestParam == null) {
+				continue;
+			}
+
+			TypeMirror type = parameter.asType();
+			boolean supported = isValueType(type) || requestParam != null && isCollectionOfValueType(type);
+
+			if (!supported) {
+				note(method, String.format("Skipping link factory method as parameter %s of type %s is not supported.",
+						parameter.getSimpleName(), type));
+				return null;
+			}
+
+			AnnotationMirror annotation = pathVariable == null ? requestParam : pathVariable;
+			// Only value as ControllerLinkBuilder doesn't consider the name alias either
+			String name = getFirstString(annotation, "value");
+
+			if (name == null) {
+				name = parameter.getSimpleName().toString();
+			}
+
+			if (pathVariable != null) {
+				result.parameters.add(new LinkParameter(name, parameter, true, true, false));
+			} else {
+
+				boolean required = Boolean.TRUE.equals(getValue(requestParam, "required"));
+				boolean hasDefaultValue = !DEFAULT_NONE.equals(getValue(requestParam, "defaultValue"));
+
+				result.parameters.add(new LinkParameter(name, parameter, false, required, hasDefaultValue));
+			}
+		}
+
+		return result;
+	}
+
+	private String render(String packageName, String className, TypeElement controller, List<LinkMethod> methods) {
+
+		StringBuilder builder = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			builder.append("package ").append(packageName).append(";\n\n");
+		}
+
+		builder.append("/**\n");
+		builder.append(" * Link factories for {@code ").append(controller.getQualifiedName()).append("}.\n");
+		builder.append(" * <p>\n");
+		builder.append(" * Generated by {@code ").append(getClass().getName()).append("}, do not edit.\n");
+		builder.append(" */\n");
+		builder.append("public final class ").append(className).append(" {\n");
+
+		for (LinkMethod method : methods) {
+
+			builder.append("\n\t/**\n");
+			builder.append("\t * Template for links to {@code ").append(controller.getSimpleName()).append('.');
+			builder.append(method.name).append("(...)}.\n");
+			builder.append("\t */\n");
+			builder.append("\tpublic static final ").append(TEMPLATE_TYPE).append(' ').append(method.constant);
+			builder.append(" = ").append(TEMPLATE_TYPE).append(".of(").append(literal(method.mapping)).append(')');
+			builder.append("\n\t\t\t.method(").append(controller.getQualifiedName()).append(".class, ");
+			builder.append(literal(method.name));
+
+			for (VariableElement parameter : method.element.getParameters()) {
+				builder.append(", ").append(processingEnv.getTypeUtils().erasure(parameter.asType())).append(".class");
+			}
+
+			builder.append(')');
+
+			for (LinkParameter parameter : method.parameters) {
+
+				builder.append("\n\t\t\t");
+
+				if (parameter.pathVariable) {
+					builder.append(".pathVariable(").append(literal(parameter.name)).append(')');
+				} else {
+					builder.append(".requestParam(").append(literal(parameter.name)).append(", ");
+					builder.append(parameter.required).append(", ").append(parameter.hasDefaultValue).append(')');
+				}
+			}
+
+			builder.append(";\n");
+		}
+
+		builder.append("\n\tprivate ").append(className).append("() {}\n");
+
+		for (LinkMethod method : methods) {
+
+			builder.append("\n\t/**\n");
+			builder.append("\t * Creates a link to {@code ").append(controller.getSimpleName()).append('.');
+			builder.append(method.name).append("(...)}.\n");
+			builder.append("\t */\n");
+			builder.append("\tpublic static ").append(BUILDER_TYPE).append(' ').append(method.name).append('(');
+
+			for (int i = 0; i < method.parameters.size(); i++) {
+
+				LinkParameter parameter = method.parameters.get(i);
+
+				builder.append(i == 0 ? "" : ", ");
+				builder.append(parameter.element.asType()).append(' ').append(parameter.element.getSimpleName());
+			}
+
+			builder.append(") {\n");
+			builder.append("\t\treturn ").append(method.constant).append(".expand(");
+
+			for (int i = 0; i < method.parameters.size(); i++) {
+				builder.append(i == 0 ? "" : ", ").append(method.parameters.get(i).element.getSimpleName());
+			}
+
+			builder.append(");\n\t}\n");
+		}
+
+		return builder.append("}\n").toString();
+	}
+
+	/**
+	 * Returns the mapping of the given controller type, looking up {@code @RequestMapping} on the type itself, its
+	 * interfaces and superclasses just like {@code AnnotationMappingDiscoverer} does.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private String getTypeMapping(TypeElement type) {
+
+		AnnotationMirror annotation = getAnnotation(type, REQUEST_MAPPING);
+
+		if (annotation != null) {
+			return getFirstString(annotation, "value", "path");
+		}
+
+		for (TypeMirror candidate : type.getInterfaces()) {
+
+			String mapping = getTypeMapping((TypeElement) processingEnv.getTypeUtils().asElement(candidate));
+
+			if (mapping != null) {
+				return mapping;
+			}
+		}
+
+		TypeMirror superclass = type.getSuperclass();
+
+		return superclass.getKind() == TypeKind.DECLARED
+				? getTypeMapping((TypeElement) processingEnv.getTypeUtils().asElement(superclass)) : null;
+	}
+
+	private static String getMapping(ExecutableElement method) {
+
+		for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+
+			String name = getName(annotation);
+
+			if (name.startsWith(ANNOTATION_PACKAGE) && name.endsWith("Mapping")) {
+				return getFirstString(annotation, "value", "path");
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Joins the given mappings the same way {@code AnnotationMappingDiscoverer} does.
+	 *
+	 * @param typeMapping can be {@literal null}.
+	 * @param mapping can be {@literal null}.
+	 * @return
+	 */
+	private static String join(String typeMapping, String mapping) {
+
+		if (mapping == null) {
+			return typeMapping;
+		}
+
+		return typeMapping == null || "/".equals(typeMapping) ? mapping
+				: MULTIPLE_SLASHES.matcher(typeMapping.concat("/").concat(mapping)).replaceAll("/");
+	}
+
+	private boolean isValueType(TypeMirror type) {
+
+		if (type.getKind().isPrimitive()) {
+			return true;
+		}
+
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+
+		TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+
+		return element.getKind() == ElementKind.ENUM || VALUE_TYPES.contains(element.getQualifiedName().toString());
+	}
+
+	private boolean isCollectionOfValueType(TypeMirror type) {
+
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+
+		TypeMirror collection = processingEnv.getElementUtils().getTypeElement("java.util.Collection").asType();
+		List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+
+		return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+				processingEnv.getTypeUtils().erasure(collection)) && arguments.size() == 1 && isValueType(arguments.get(0));
+	}
+
+	private void note(Element element, String message) {
+		processingEnv.getMessager().printMessage(Kind.NOTE, message, element);
+	}
+
+	private static AnnotationMirror getAnnotation(Element element, String annotationType) {
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (getName(annotation).equals(annotationType)) {
+				return annotation;
+			}
+		}
+
+		return null;
+	}
+
+	private static String getName(AnnotationMirror annotation) {
+		return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	/**
+	 * Returns the first non-empty {@link String} found in the given attributes, which may be {@link String}s or arrays
+	 * of them.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @param attributes must not be {@literal null}.
+	 * @return
+	 */
+	private static String getFirstString(AnnotationMirror annotation, String... attributes) {
+
+		for (String attribute : attributes) {
+
+			Object value = getValue(annotation, attribute);
+
+			if (value instanceof List && !((List<?>) value).isEmpty()) {
+				value = ((AnnotationValue) ((List<?>) value).get(0)).getValue();
+			}
+
+			if (value instanceof String && !((String) value).isEmpty()) {
+				return (String) value;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the value of the given annotation attribute. Only considers explicitly declared values and falls back to
+	 * the Spring defaults for the attributes inspected to not need the annotation types on the processor path.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @param attribute must not be {@literal null}.
+	 * @return
+	 */
+	private static Object getValue(AnnotationMirror annotation, String attribute) {
+
+		for (Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+				.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+				return entry.getValue().getValue();
+			}
+		}
+
+		if ("required".equals(attribute)) {
+			return Boolean.TRUE;
+		}
+
+		return "defaultValue".equals(attribute) ? DEFAULT_NONE : null;
+	}
+
+	private static PackageElement getPackage(Element element) {
+
+		Element current = element;
+
+		while (!(current instanceof PackageElement)) {
+			current = current.getEnclosingElement();
+		}
+
+		return (PackageElement) current;
+	}
+
+	/**
+	 * Returns the name of the factory class for the given controller, i.e. {@code Outer_InnerLinks} for a controller
+	 * {@code Inner} nested in {@code Outer}.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @return
+	 */
+	private static String getFactoryName(TypeElement controller) {
+
+		List<String> names = new ArrayList<String>();
+		Element current = controller;
+
+		while (current instanceof TypeElement) {
+			names.add(current.getSimpleName().toString());
+			current = current.getEnclosingElement();
+		}
+
+		Collections.reverse(names);
+
+		StringBuilder builder = new StringBuilder();
+
+		for (String name : names) {
+			builder.append(builder.length() == 0 ? "" : "_").append(name);
+		}
+
+		return builder.append("Links").toString();
+	}
+
+	private static String toConstantName(String methodName) {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < methodName.length(); i++) {
+
+			char c = methodName.charAt(i);
+
+			if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(methodName.charAt(i - 1))) {
+				builder.append('_');
+			}
+
+			builder.append(Character.toUpperCase(c));
+		}
+
+		return builder.toString();
+	}
+
+	private static String literal(String value) {
+
+		StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c < 0x20 || c > 0x7E) {
+				builder.append(String.format("\\u%04x", (int) c));
+			} else {
+				builder.append(c);
+			}
+		}
+
+		return builder.append('"').toString();
+	}
+
+	/**
+	 * A link factory method to be generated for a handler method.
+	 *
+	 * @author agent
+	 */
+	private static class LinkMethod {
+
+		private final ExecutableElement element;
+		private final String name, mapping;
+		private final List<LinkParameter> parameters = new ArrayList<LinkParameter>();
+		private String constant;
+
+		public LinkMethod(ExecutableElement element, String mapping) {
+			this.element = element;
+			this.name = element.getSimpleName().toString();
+			this.mapping = mapping;
+		}
+
+		/**
+		 * Returns the erased signature of the link factory method to detect clashes of overloaded handler methods.
+		 *
+		 * @return
+		 */
+		public String getSignature() {
+
+			StringBuilder builder = new StringBuilder(name).append('(');
+
+			for (LinkParameter parameter : parameters) {
+				builder.append(parameter.getErasedType()).append(',');
+			}
+
+			return builder.append(')').toString();
+		}
+	}
+
+	/**
+	 * A handler method parameter bound to a path variable or request parameter.
+	 *
+	 * @author agent
+	 */
+	private static class LinkParameter {
+
+		private final String name;
+		private final VariableElement element;
+		private final boolean pathVariable, required, hasDefaultValue;
+
+		public LinkParameter(String name, VariableElement element, boolean pathVariable, boolean required,
+				boolean hasDefaultValue) {
+
+			this.name = name;
+			this.element = element;
+			this.pathVariable = pathVariable;
+			this.required = required;
+			this.hasDefaultValue = hasDefaultValue;
+		}
+
+		public String getErasedType() {
+
+			TypeMirror type = element.asType();
+
+			return type.getKind() == TypeKind.DECLARED
+					? ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString() : type.toString();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.processor;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderFactory;
+import org.springframework.hateoas.mvc.UriComponentsContributor;
+import org.springframework.hateoas.processor.SampleController.NestedController;
+import org.springframework.hateoas.processor.SampleController.Type;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link LinkFactoryProcessor} verifying the factories generated for {@link SampleController} create
+ * the same links as dummy method invocations.
+ *
+ * @author agent
+ */
+public class LinkFactoryProcessorUnitTest {
+
+	@Before
+	public void setUp() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void generatesFactoryMethodsForMappedMethods() {
+
+		SampleController controller = methodOn(SampleController.class);
+
+		assertSameLink(SampleControllerLinks.root(), controller.root());
+		assertSameLink(SampleControllerLinks.person(4711L), controller.person(4711L));
+		assertSameLink(SampleControllerLinks.person(null), controller.person(null));
+
+		UUID id = UUID.randomUUID();
+
+		assertSameLink(SampleControllerLinks.address(id, "home office"), controller.address(id, "home office", null));
+		assertSameLink(SampleControllerLinks.search("Dave & Co", 1, 10, Arrays.asList(Type.LEGAL, Type.NATURAL)),
+				controller.search("Dave & Co", 1, 10, Arrays.asList(Type.LEGAL, Type.NATURAL)));
+		assertSameLink(SampleControllerLinks.search(null, 0, null, null), controller.search(null, 0, null, null));
+	}
+
+	@Test
+	public void generatesFactoryForNestedController() {
+		assertSameLink(SampleController_NestedControllerLinks.nestedMethod(42),
+				methodOn(NestedController.class).nestedMethod(42));
+	}
+
+	@Test
+	public void skipsMethodsWithUnsupportedParameterTypes() {
+
+		for (Method method : SampleControllerLinks.class.getDeclaredMethods()) {
+			assertThat(method.getName(), is(not("filter")));
+		}
+	}
+
+	@Test
+	public void expandsTemplatesThroughFactoryWithUnrelatedContributors() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(new PayloadUriComponentsContributor()));
+
+		assertSameLink(factory.linkTo(SampleControllerLinks.PERSON, 4711L), methodOn(SampleController.class).person(4711L));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsTemplatesForMethodsWithContributors() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(new PayloadUriComponentsContributor()));
+
+		factory.linkTo(SampleControllerLinks.ADDRESS, UUID.randomUUID(), "home");
+	}
+
+	private static void assertSameLink(ControllerLinkBuilder builder, Object invocationValue) {
+
+		Link expected = linkTo(invocationValue).withSelfRel();
+
+		assertThat(builder.withSelfRel(), is(expected));
+		assertThat(builder.withSelfRel().getVariables(), is(expected.getVariables()));
+	}
+
+	static class PayloadUriComponentsContributor implements UriComponentsContributor {
+
+		@Override
+		public boolean supportsParameter(MethodParameter parameter) {
+			return parameter.hasParameterAnnotation(RequestBody.class);
+		}
+
+		@Override
+		public void enhance(UriComponentsBuilder builder, MethodParameter parameter, Object value) {
+			builder.queryParam("payload", value);
+		}
+	}
+}
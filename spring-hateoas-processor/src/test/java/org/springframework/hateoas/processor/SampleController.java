@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Sample controller {@link LinkFactoryProcessor} generates {@code SampleControllerLinks} for during test compilation.
+ *
+ * @author agent
+ */
+@RequestMapping("/people/")
+public class SampleController {
+
+	@RequestMapping
+	public HttpEntity<Void> root() {
+		return null;
+	}
+
+	@GetMapping("/{id}")
+	public HttpEntity<Void> person(@PathVariable Long id) {
+		return null;
+	}
+
+	@GetMapping(path = "/{id}/addresses/{addressId}")
+	public HttpEntity<Void> address(@PathVariable("id") UUID person, @PathVariable("addressId") String address,
+			@RequestBody Object payload) {
+		return null;
+	}
+
+	@RequestMapping("/search")
+	public HttpEntity<Void> search(@RequestParam(required = false) String name, @RequestParam int page,
+			@RequestParam(defaultValue = "20") Integer size, @RequestParam("type") List<Type> types) {
+		return null;
+	}
+
+	@RequestMapping("/filter")
+	public HttpEntity<Void> filter(@RequestParam Map<String, String> parameters) {
+		return null;
+	}
+
+	public enum Type {
+		NATURAL, LEGAL;
+	}
+
+	@RequestMapping("/nested")
+	static class NestedController {
+
+		@RequestMapping("/{id}")
+		HttpEntity<Void> nestedMethod(@PathVariable int id) {
+			return null;
+		}
+	}
+}
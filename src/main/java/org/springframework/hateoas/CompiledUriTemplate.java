@@ -0,0 +1,717 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A URI template compiled into a list of literal and expression parts according to RFC 6570 including all level 4
+ * operators and modifiers. Expanding the template renders all parts into a {@link StringBuilder} in a single pass.
+ * Parts of the template that don't form a valid expression are considered literals.
+ *
+ * @author agent
+ * @since 0.24
+ * @see https://tools.ietf.org/html/rfc6570
+ */
+final class CompiledUriTemplate {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private final List<Part> parts;
+	private final List<Expression> expressions;
+	private final int length;
+
+	private CompiledUriTemplate(List<Part> parts, List<Expression> expressions, int length) {
+
+		this.parts = parts;
+		this.expressions = expressions;
+		this.length = length;
+	}
+
+	/**
+	 * Compiles the given template.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return
+	 */
+	public static CompiledUriTemplate compile(String template) {
+
+		Assert.notNull(template, "Template must not be null!");
+
+		List<Part> parts = new ArrayList<Part>();
+		List<Expression> expressions = new ArrayList<Expression>();
+		int literalStart = 0;
+		int index = template.indexOf('{');
+
+		while (index != -1) {
+
+			int end = template.indexOf('}', index + 1);
+
+			if (end == -1) {
+				break;
+			}
+
+			Expression expression = Expression.parse(template, index, end);
+
+			if (expression == null) {
+				index = template.indexOf('{', index + 1);
+				continue;
+			}
+
+			if (literalStart < index) {
+				parts.add(new Literal(template.substring(literalStart, index)));
+			}
+
+			parts.add(expression);
+			expressions.add(expression);
+
+			literalStart = end + 1;
+			index = template.indexOf('{', literalStart);
+		}
+
+		if (literalStart < template.length()) {
+			parts.add(new Literal(template.substring(literalStart)));
+		}
+
+		return new CompiledUriTemplate(Collections.unmodifiableList(parts), Collections.unmodifiableList(expressions),
+				template.length());
+	}
+
+	/**
+	 * Returns whether the given template contains at least one valid expression.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean containsExpression(String template) {
+
+		int index = template.indexOf('{');
+
+		while (index != -1) {
+
+			int end = template.indexOf('}', index + 1);
+
+			if (end == -1) {
+				return false;
+			}
+
+			if (Expression.parse(template, index, end) != null) {
+				return true;
+			}
+
+			index = template.indexOf('{', index + 1);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns all {@link Expression}s contained in the template in the order of their declaration.
+	 *
+	 * @return
+	 */
+	public List<Expression> getExpressions() {
+		return expressions;
+	}
+
+	/**
+	 * Expands the template using the given values.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	public String expand(Map<String, ?> values) {
+		return expand(values, new StringBuilder(length + 32)).toString();
+	}
+
+	/**
+	 * Expands the template using the given values into the given {@link StringBuilder}.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 */
+	public StringBuilder expand(Map<String, ?> values, StringBuilder target) {
+
+		Assert.notNull(values, "Values must not be null!");
+		Assert.notNull(target, "Target StringBuilder must not be null!");
+
+		for (Part part : parts) {
+			part.expand(values, target);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Appends the given value to the given {@link StringBuilder} percent-encoding all characters outside the unreserved
+	 * set, additionally allowing reserved characters and already percent-encoded triplets if requested.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param allowReserved whether to keep reserved characters and percent-encoded triplets.
+	 * @param target must not be {@literal null}.
+	 */
+	private static void encode(String value, boolean allowReserved, StringBuilder target) {
+
+		int length = value.length();
+
+		for (int i = 0; i < length; i++) {
+
+			char c = value.charAt(i);
+
+			if (isUnreserved(c) || allowReserved && isReserved(c)) {
+				target.append(c);
+				continue;
+			}
+
+			if (allowReserved && c == '%' && i + 2 < length && isHexDigit(value.charAt(i + 1))
+					&& isHexDigit(value.charAt(i + 2))) {
+				target.append(value, i, i + 3);
+				i += 2;
+				continue;
+			}
+
+			int codePoint = value.codePointAt(i);
+			int charCount = Character.charCount(codePoint);
+
+			for (byte b : value.substring(i, i + charCount).getBytes(UTF_8)) {
+				int octet = b & 0xFF;
+				target.append('%').append(HEX_DIGITS[octet >> 4]).append(HEX_DIGITS[octet & 0xF]);
+			}
+
+			i += charCount - 1;
+		}
+	}
+
+	private static boolean isUnreserved(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' //
+				|| c == '-' || c == '.' || c == '_' || c == '~';
+	}
+
+	private static boolean isReserved(char c) {
+
+		switch (c) {
+			case ':':
+			case '/':
+			case '?':
+			case '#':
+			case '[':
+			case ']':
+			case '@':
+			case '!':
+			case '$':
+			case '&':
+			case '\'':
+			case '(':
+			case ')':
+			case '*':
+			case '+':
+			case ',':
+			case ';':
+			case '=':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isHexDigit(char c) {
+		return c >= '0' && c <= '9' || c >= 'A' && c <= 'F' || c >= 'a' && c <= 'f';
+	}
+
+	/**
+	 * A single part of a compiled template.
+	 *
+	 * @author agent
+	 */
+	private interface Part {
+
+		/**
+		 * Renders the part into the given {@link StringBuilder}.
+		 *
+		 * @param values will never be {@literal null}.
+		 * @param target will never be {@literal null}.
+		 */
+		void expand(Map<String, ?> values, StringBuilder target);
+	}
+
+	/**
+	 * Literal text of the template, encoded eagerly.
+	 *
+	 * @author agent
+	 */
+	private static class Literal implements Part {
+
+		private final String value;
+
+		public Literal(String source) {
+
+			StringBuilder builder = new StringBuilder(source.length());
+			encode(source, true, builder);
+
+			this.value = builder.toString();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(java.util.Map, java.lang.StringBuilder)
+		 */
+		@Override
+		public void expand(Map<String, ?> values, StringBuilder target) {
+			target.append(value);
+		}
+	}
+
+	/**
+	 * The expression operators defined in RFC 6570.
+	 *
+	 * @author agent
+	 */
+	enum Operator {
+
+		SIMPLE("", "", ",", false, "", false), //
+		RESERVED("+", "", ",", false, "", true), //
+		FRAGMENT("#", "#", ",", false, "", true), //
+		LABEL(".", ".", ".", false, "", false), //
+		PATH_SEGMENT("/", "/", "/", false, "", false), //
+		PATH_STYLE_PARAMETER(";", ";", ";", true, "", false), //
+		QUERY("?", "?", "&", true, "=", false), //
+		QUERY_CONTINUATION("&", "&", "&", true, "=", false);
+
+		private final String key, first, separator, ifEmpty;
+		private final boolean named, allowReserved;
+
+		private Operator(String key, String first, String separator, boolean named, String ifEmpty,
+				boolean allowReserved) {
+
+			this.key = key;
+			this.first = first;
+			this.separator = separator;
+			this.named = named;
+			this.ifEmpty = ifEmpty;
+			this.allowReserved = allowReserved;
+		}
+
+		/**
+		 * Returns the character identifying the operator within an expression, an empty {@link String} for simple
+		 * expressions.
+		 *
+		 * @return
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		private static Operator from(char c) {
+
+			switch (c) {
+				case '+':
+					return RESERVED;
+				case '#':
+					return FRAGMENT;
+				case '.':
+					return LABEL;
+				case '/':
+					return PATH_SEGMENT;
+				case ';':
+					return PATH_STYLE_PARAMETER;
+				case '?':
+					return QUERY;
+				case '&':
+					return QUERY_CONTINUATION;
+				default:
+					return null;
+			}
+		}
+	}
+
+	/**
+	 * An expression of the template, i.e. an {@link Operator} and one or more {@link VariableSpec}s.
+	 *
+	 * @author agent
+	 */
+	static class Expression implements Part {
+
+		private final Operator operator;
+		private final List<VariableSpec> variables;
+		private final int start, end;
+
+		private Expression(Operator operator, List<VariableSpec> variables, int start, int end) {
+
+			this.operator = operator;
+			this.variables = variables;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Parses the expression between the given indexes of the opening and closing brace.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @param start the index of the opening brace.
+		 * @param end the index of the closing brace.
+		 * @return the {@link Expression} or {@literal null} in case the source is not a valid expression.
+		 */
+		private static Expression parse(String template, int start, int end) {
+
+			int index = start + 1;
+
+			if (index == end) {
+				return null;
+			}
+
+			Operator operator = Operator.from(template.charAt(index));
+
+			if (operator == null) {
+				operator = Operator.SIMPLE;
+			} else {
+				index++;
+			}
+
+			List<VariableSpec> variables = new ArrayList<VariableSpec>();
+
+			while (index < end) {
+
+				int separator = template.indexOf(',', index);
+				int specEnd = separator == -1 || separator > end ? end : separator;
+				VariableSpec spec = VariableSpec.parse(template, index, specEnd);
+
+				if (spec == null) {
+					return null;
+				}
+
+				variables.add(spec);
+				index = specEnd + 1;
+
+				if (specEnd != end && index == end) {
+					return null;
+				}
+			}
+
+			return variables.isEmpty() ? null
+					: new Expression(operator, Collections.unmodifiableList(variables), start, end);
+		}
+
+		public Operator getOperator() {
+			return operator;
+		}
+
+		public List<VariableSpec> getVariables() {
+			return variables;
+		}
+
+		/**
+		 * Returns the index of the opening brace of the expression within the template.
+		 *
+		 * @return
+		 */
+		public int getStart() {
+			return start;
+		}
+
+		/**
+		 * Returns the index of the closing brace of the expression within the template.
+		 *
+		 * @return
+		 */
+		public int getEnd() {
+			return end;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(java.util.Map, java.lang.StringBuilder)
+		 */
+		@Override
+		public void expand(Map<String, ?> values, StringBuilder target) {
+
+			boolean first = true;
+
+			for (VariableSpec variable : variables) {
+
+				Object value = values.get(variable.name);
+
+				if (isUndefined(value)) {
+					continue;
+				}
+
+				target.append(first ? operator.first : operator.separator);
+				first = false;
+
+				if (value instanceof Map) {
+					variable.expandMap((Map<?, ?>) value, operator, target);
+				} else if (value instanceof Collection) {
+					variable.expandList((Collection<?>) value, operator, target);
+				} else if (value.getClass().isArray()) {
+					variable.expandList(Arrays.asList(ObjectUtils.toObjectArray(value)), operator, target);
+				} else {
+					variable.expandValue(value.toString(), operator, target);
+				}
+			}
+		}
+
+		private static boolean isUndefined(Object value) {
+
+			if (value == null) {
+				return true;
+			}
+
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).isEmpty();
+			}
+
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).isEmpty();
+			}
+
+			return value.getClass().isArray() && ObjectUtils.isEmpty(ObjectUtils.toObjectArray(value));
+		}
+	}
+
+	/**
+	 * A variable within an {@link Expression} alongside its optional prefix or explode modifier.
+	 *
+	 * @author agent
+	 */
+	static class VariableSpec {
+
+		private static final int MAX_PREFIX_LENGTH = 9999;
+
+		private final String name;
+		private final int prefix;
+		private final boolean explode;
+
+		private VariableSpec(String name, int prefix, boolean explode) {
+
+			this.name = name;
+			this.prefix = prefix;
+			this.explode = explode;
+		}
+
+		/**
+		 * Parses the variable specification between the given indexes.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @param start the index of the first character of the specification.
+		 * @param end the index of the character following the specification.
+		 * @return the {@link VariableSpec} or {@literal null} in case the source is not a valid one.
+		 */
+		private static VariableSpec parse(String template, int start, int end) {
+
+			int nameEnd = end;
+			int prefix = -1;
+			boolean explode = false;
+
+			if (end > start && template.charAt(end - 1) == '*') {
+
+				explode = true;
+				nameEnd = end - 1;
+
+			} else {
+
+				int colon = template.lastIndexOf(':', end - 1);
+
+				if (colon >= start) {
+
+					prefix = parsePrefix(template, colon + 1, end);
+
+					if (prefix == -1) {
+						return null;
+					}
+
+					nameEnd = colon;
+				}
+			}
+
+			return isValidName(template, start, nameEnd)
+					? new VariableSpec(template.substring(start, nameEnd), prefix, explode) : null;
+		}
+
+		private static int parsePrefix(String template, int start, int end) {
+
+			if (start == end || end - start > 4 || template.charAt(start) == '0') {
+				return -1;
+			}
+
+			int result = 0;
+
+			for (int i = start; i < end; i++) {
+
+				char c = template.charAt(i);
+
+				if (c < '0' || c > '9') {
+					return -1;
+				}
+
+				result = result * 10 + (c - '0');
+			}
+
+			return result <= MAX_PREFIX_LENGTH ? result : -1;
+		}
+
+		private static boolean isValidName(String template, int start, int end) {
+
+			if (start == end || template.charAt(start) == '.' || template.charAt(end - 1) == '.') {
+				return false;
+			}
+
+			for (int i = start; i < end; i++) {
+
+				char c = template.charAt(i);
+
+				if (c == '%') {
+
+					if (i + 2 >= end || !isHexDigit(template.charAt(i + 1)) || !isHexDigit(template.charAt(i + 2))) {
+						return false;
+					}
+
+					i += 2;
+
+				} else if (c == '.') {
+
+					if (template.charAt(i - 1) == '.') {
+						return false;
+					}
+
+				} else if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_')) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the modifier of the variable as declared in the template, i.e. {@code *}, {@code :} followed by the
+		 * prefix length or an empty {@link String} if the variable doesn't declare a modifier.
+		 *
+		 * @return
+		 */
+		public String getModifier() {
+			return explode ? "*" : prefix == -1 ? "" : ":".concat(String.valueOf(prefix));
+		}
+
+		private void expandValue(String value, Operator operator, StringBuilder target) {
+
+			if (operator.named) {
+
+				target.append(name);
+
+				if (value.isEmpty()) {
+					target.append(operator.ifEmpty);
+					return;
+				}
+
+				target.append('=');
+			}
+
+			if (prefix != -1 && value.codePointCount(0, value.length()) > prefix) {
+				value = value.substring(0, value.offsetByCodePoints(0, prefix));
+			}
+
+			encode(value, operator.allowReserved, target);
+		}
+
+		private void expandList(Collection<?> values, Operator operator, StringBuilder target) {
+
+			String separator = explode ? operator.separator : ",";
+			boolean first = true;
+
+			if (operator.named && !explode) {
+				target.append(name).append('=');
+			}
+
+			for (Object value : values) {
+
+				if (value == null) {
+					continue;
+				}
+
+				if (!first) {
+					target.append(separator);
+				}
+
+				first = false;
+				String element = value.toString();
+
+				if (operator.named && explode) {
+
+					target.append(name);
+
+					if (element.isEmpty()) {
+						target.append(operator.ifEmpty);
+						continue;
+					}
+
+					target.append('=');
+				}
+
+				encode(element, operator.allowReserved, target);
+			}
+		}
+
+		private void expandMap(Map<?, ?> values, Operator operator, StringBuilder target) {
+
+			boolean first = true;
+
+			if (operator.named && !explode) {
+				target.append(name).append('=');
+			}
+
+			for (Entry<?, ?> entry : values.entrySet()) {
+
+				if (entry.getValue() == null) {
+					continue;
+				}
+
+				if (!first) {
+					target.append(explode ? operator.separator : ",");
+				}
+
+				first = false;
+				String value = entry.getValue().toString();
+
+				encode(String.valueOf(entry.getKey()), operator.allowReserved, target);
+
+				if (!explode) {
+					target.append(',');
+				} else if (operator.named && value.isEmpty()) {
+					target.append(operator.ifEmpty);
+					continue;
+				} else {
+					target.append('=');
+				}
+
+				encode(value, operator.allowReserved, target);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,12 @@ package org.springframework.hateoas;
 
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.annotation.XmlAttribute;
-import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
 import org.springframework.util.Assert;
@@ -34,7 +32,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 /**
- * Value object for links.
+ * Value object for links. A {@link Link} is defined by its rel and href only. It keeps the {@link UriTemplate} it was
+ * created from, or derives it from the href on first use, but doesn't serialize it. Rels are interned so that large
+ * representations share the instances of commonly used relation types.
  * 
  * @author Oliver Gierke
  */
@@ -43,7 +43,6 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 public class Link implements Serializable {
 
 	private static final long serialVersionUID = -9037755944661782121L;
-	private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
 
 	public static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
 
@@ -53,9 +52,12 @@ public class Link implements Serializable {
 	public static final String REL_NEXT = "next";
 	public static final String REL_LAST = "last";
 
+	private static final int MAX_INTERNED_RELS = 1024;
+	private static final ConcurrentMap<String, String> RELS = new ConcurrentHashMap<String, String>();
+
 	@XmlAttribute private String rel;
 	@XmlAttribute private String href;
-	@XmlTransient @JsonIgnore private UriTemplate template;
+	private transient UriTemplate template;
 
 	/**
 	 * Creates a new link to the given URI with the self rel.
@@ -68,17 +70,30 @@ public class Link implements Serializable {
 	}
 
 	/**
-	 * Creates a new {@link Link} to the given URI with the given rel.
+	 * Creates a new {@link Link} to the given URI with the given rel. Hrefs not containing any template expression are
+	 * used as is, only templated ones are parsed into a {@link UriTemplate}.
 	 * 
 	 * @param href must not be {@literal null} or empty.
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+
+		Assert.hasText(href, "Href must not be null or empty!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		if (mayBeTemplated(href)) {
+			this.template = UriTemplate.of(href);
+			this.href = template.toString();
+		} else {
+			this.href = href;
+		}
+
+		this.rel = intern(rel);
 	}
 
 	/**
-	 * Creates a new Link from the given {@link UriTemplate} and rel.
+	 * Creates a new Link from the given {@link UriTemplate} and rel. The {@link TemplateVariable}s exposed by the
+	 * {@link Link} are the ones of the given template, including their descriptions.
 	 * 
 	 * @param template must not be {@literal null}.
 	 * @param rel must not be {@literal null} or empty.
@@ -88,9 +103,9 @@ public class Link implements Serializable {
 		Assert.notNull(template, "UriTempalte must not be null!");
 		Assert.hasText(rel, "Rel must not be null or empty!");
 
-		this.template = template;
 		this.href = template.toString();
-		this.rel = rel;
+		this.rel = intern(rel);
+		this.template = template;
 	}
 
 	/**
@@ -125,7 +140,13 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link withRel(String rel) {
-		return new Link(href, rel);
+
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		Link link = verbatim(href, rel);
+		link.template = template;
+
+		return link;
 	}
 
 	/**
@@ -144,7 +165,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<String> getVariableNames() {
-		return getUriTemplate().getVariableNames();
+		return mayBeTemplated(href) ? getUriTemplate().getVariableNames() : Collections.<String> emptyList();
 	}
 
 	/**
@@ -154,7 +175,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<TemplateVariable> getVariables() {
-		return getUriTemplate().getVariables();
+		return mayBeTemplated(href) ? getUriTemplate().getVariables() : Collections.<TemplateVariable> emptyList();
 	}
 
 	/**
@@ -163,7 +184,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public boolean isTemplated() {
-		return !getUriTemplate().getVariables().isEmpty();
+		return mayBeTemplated(href) && !getUriTemplate().getVariables().isEmpty();
 	}
 
 	/**
@@ -173,7 +194,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Object... arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return verbatim(getUriTemplate().expandToString(arguments), rel);
 	}
 
 	/**
@@ -183,18 +204,97 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public Link expand(Map<String, ? extends Object> arguments) {
-		return new Link(getUriTemplate().expand(arguments).toString(), getRel());
+		return verbatim(getUriTemplate().expandToString(arguments), rel);
+	}
+
+	/**
+	 * Expands the template of the current {@link Link} into the encoded href using the given parameters.
+	 * 
+	 * @param arguments
+	 * @return
+	 * @since 0.24
+	 * @see UriTemplate#expandToString(Object...)
+	 */
+	public String expandToString(Object... arguments) {
+		return getUriTemplate().expandToString(arguments);
+	}
+
+	/**
+	 * Expands the template of the current {@link Link} into the encoded href using the given parameters.
+	 * 
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see UriTemplate#expandToString(Map)
+	 */
+	public String expandToString(Map<String, ? extends Object> arguments) {
+		return getUriTemplate().expandToString(arguments);
 	}
 
 	private UriTemplate getUriTemplate() {
 
+		UriTemplate template = this.template;
+
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			template = UriTemplate.of(href);
+			this.template = template;
 		}
 
 		return template;
 	}
 
+	/**
+	 * Creates a new {@link Link} for the given href without parsing or normalizing it. Only to be used for hrefs that
+	 * were produced by a {@link UriTemplate} already.
+	 * 
+	 * @param href must not be {@literal null}.
+	 * @param rel must not be {@literal null}.
+	 * @return
+	 */
+	private static Link verbatim(String href, String rel) {
+
+		Link link = new Link();
+		link.href = href;
+		link.rel = intern(rel);
+
+		return link;
+	}
+
+	/**
+	 * Returns whether the given href might contain template expressions, i.e. whether it has to be parsed into a
+	 * {@link UriTemplate} to find out.
+	 * 
+	 * @param href must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean mayBeTemplated(String href) {
+		return href.indexOf('{') != -1;
+	}
+
+	/**
+	 * Returns the canonical instance of the given rel. Once {@value #MAX_INTERNED_RELS} distinct rels have been seen,
+	 * further ones are used as is to prevent arbitrary input from growing the pool without bounds.
+	 * 
+	 * @param rel must not be {@literal null}.
+	 * @return
+	 */
+	private static String intern(String rel) {
+
+		String interned = RELS.get(rel);
+
+		if (interned != null) {
+			return interned;
+		}
+
+		if (RELS.size() >= MAX_INTERNED_RELS) {
+			return rel;
+		}
+
+		interned = RELS.putIfAbsent(rel, rel);
+
+		return interned == null ? rel : interned;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -234,12 +334,13 @@ public class Link implements Serializable {
 	 */
 	@Override
 	public String toString() {
-		return String.format("<%s>;rel=\"%s\"", href, rel);
+		return LinkHeaderUtils.appendLink(this, new StringBuilder(href.length() + rel.length() + 9)).toString();
 	}
 
 	/**
 	 * Factory method to easily create {@link Link} instances from RFC-5988 compatible {@link String} representations of a
-	 * link. Will return {@literal null} if an empty or {@literal null} {@link String} is given.
+	 * link. Will return {@literal null} if an empty or {@literal null} {@link String} is given. In case the link declares
+	 * multiple relation types, the first one is used.
 	 * 
 	 * @param element an RFC-5899 compatible representation of a link.
 	 * @throws IllegalArgumentException if a non-empty {@link String} was given that does not adhere to RFC-5899.
@@ -252,44 +353,6 @@ public class Link implements Serializable {
 			return null;
 		}
 
-		Pattern uriAndAttributes = Pattern.compile("<(.*)>;(.*)");
-		Matcher matcher = uriAndAttributes.matcher(element);
-
-		if (matcher.find()) {
-
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
-
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
-			}
-
-			return new Link(matcher.group(1), attributes.get("rel"));
-
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
-		}
-	}
-
-	/**
-	 * Parses the links attributes from the given source {@link String}.
-	 * 
-	 * @param source
-	 * @return
-	 */
-	private static Map<String, String> getAttributeMap(String source) {
-
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
-		}
-
-		Map<String, String> attributes = new HashMap<String, String>();
-		Pattern keyAndValue = Pattern.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}\\.\\-]*|" + URI_PATTERN + ")\"");
-		Matcher matcher = keyAndValue.matcher(source);
-
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
-		}
-
-		return attributes;
+		return LinkHeaderUtils.parseLink(element);
 	}
 }
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Parses and renders {@link Link}s in the format of the HTTP {@code Link} header as defined in RFC 8288. Parsing
+ * operates on the source {@link String} directly and supports quoted and token parameter values as well as arbitrary
+ * link parameters, of which only the {@code rel} one is used.
+ *
+ * @author agent
+ * @since 0.24
+ * @see https://tools.ietf.org/html/rfc8288
+ */
+@UtilityClass
+class LinkHeaderUtils {
+
+	/**
+	 * Parses the single link-value contained in the given source.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException if the source isn't a single valid link-value or that doesn't contain a
+	 *           {@code rel} parameter.
+	 */
+	public static Link parseLink(String source) {
+
+		Parser parser = new Parser(source);
+
+		if (!parser.parseLinkValue() || parser.hasRemaining()) {
+			throw new IllegalArgumentException(String.format("Given link header %s is not RFC 8288 compliant!", source));
+		}
+
+		if (!StringUtils.hasText(parser.rel)) {
+			throw new IllegalArgumentException("Link does not provide a rel attribute!");
+		}
+
+		int end = indexOfWhitespace(parser.rel, 0);
+
+		return new Link(parser.href, end == -1 ? parser.rel : parser.rel.substring(0, end));
+	}
+
+	/**
+	 * Parses all link-values contained in the given source. Malformed link-values and ones without a {@code rel}
+	 * parameter are skipped. A link-value declaring multiple relation types results in a {@link Link} per relation type.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	public static List<Link> parseLinks(String source) {
+
+		Parser parser = new Parser(source);
+		List<Link> links = new ArrayList<Link>();
+
+		while (parser.skipSeparators()) {
+
+			if (!parser.parseLinkValue()) {
+				parser.skipToNextLinkValue();
+				continue;
+			}
+
+			String rel = parser.rel;
+
+			if (rel == null) {
+				continue;
+			}
+
+			int start = 0;
+			int end;
+
+			while ((end = indexOfWhitespace(rel, start)) != -1) {
+
+				if (end > start) {
+					links.add(new Link(parser.href, rel.substring(start, end)));
+				}
+
+				start = end + 1;
+			}
+
+			if (start < rel.length()) {
+				links.add(new Link(parser.href, start == 0 ? rel : rel.substring(start)));
+			}
+		}
+
+		return links;
+	}
+
+	/**
+	 * Appends the header representation of the given {@link Link} to the given {@link StringBuilder}.
+	 *
+	 * @param link must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 */
+	public static StringBuilder appendLink(Link link, StringBuilder target) {
+
+		String rel = link.getRel();
+
+		target.append('<').append(link.getHref()).append(">;rel=\"");
+
+		for (int i = 0; i < rel.length(); i++) {
+
+			char c = rel.charAt(i);
+
+			if (c == '"' || c == '\\') {
+				target.append('\\');
+			}
+
+			target.append(c);
+		}
+
+		return target.append('"');
+	}
+
+	private static int indexOfWhitespace(String source, int start) {
+
+		for (int i = start; i < source.length(); i++) {
+			if (isWhitespace(source.charAt(i))) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t';
+	}
+
+	/**
+	 * Returns whether the given character is a {@code tchar} as defined in RFC 7230.
+	 *
+	 * @param c
+	 * @return
+	 */
+	private static boolean isTokenCharacter(char c) {
+
+		if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9') {
+			return true;
+		}
+
+		switch (c) {
+			case '!':
+			case '#':
+			case '$':
+			case '%':
+			case '&':
+			case '\'':
+			case '*':
+			case '+':
+			case '-':
+			case '.':
+			case '^':
+			case '_':
+			case '`':
+			case '|':
+			case '~':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Cursor over a {@code Link} header value exposing the target and relation type of the link-value parsed last.
+	 *
+	 * @author agent
+	 */
+	private static class Parser {
+
+		private final String source;
+		private final int length;
+		private int index;
+
+		String href, rel;
+
+		public Parser(String source) {
+
+			this.source = source;
+			this.length = source.length();
+		}
+
+		/**
+		 * Skips whitespace and commas separating link-values.
+		 *
+		 * @return whether there's content left to parse.
+		 */
+		boolean skipSeparators() {
+
+			while (index < length && (source.charAt(index) == ',' || isWhitespace(source.charAt(index)))) {
+				index++;
+			}
+
+			return index < length;
+		}
+
+		/**
+		 * Returns whether there's anything but whitespace left to parse.
+		 *
+		 * @return
+		 */
+		boolean hasRemaining() {
+
+			skipWhitespace();
+
+			return index < length;
+		}
+
+		/**
+		 * Parses the link-value at the current position.
+		 *
+		 * @return whether a valid link-value was found.
+		 */
+		boolean parseLinkValue() {
+
+			this.href = null;
+			this.rel = null;
+
+			skipWhitespace();
+
+			if (!consume('<')) {
+				return false;
+			}
+
+			int end = source.indexOf('>', index);
+
+			if (end == -1) {
+				return false;
+			}
+
+			this.href = source.substring(index, end);
+			this.index = end + 1;
+
+			while (true) {
+
+				skipWhitespace();
+
+				if (index == length || source.charAt(index) == ',') {
+					return true;
+				}
+
+				if (!consume(';')) {
+					return false;
+				}
+
+				skipWhitespace();
+
+				int nameStart = index;
+
+				while (index < length && isTokenCharacter(source.charAt(index))) {
+					index++;
+				}
+
+				if (nameStart == index) {
+					return false;
+				}
+
+				boolean isRel = index - nameStart == 3 && source.regionMatches(true, nameStart, "rel", 0, 3);
+
+				skipWhitespace();
+
+				if (!consume('=')) {
+					continue;
+				}
+
+				skipWhitespace();
+
+				int valueStart = index;
+
+				if (!skipValue()) {
+					return false;
+				}
+
+				// Occurrences after the first one have to be ignored
+				if (isRel && rel == null) {
+					this.rel = getValue(valueStart, index);
+				}
+			}
+		}
+
+		/**
+		 * Skips everything up to and including the next comma that's not part of a link target or quoted string.
+		 */
+		void skipToNextLinkValue() {
+
+			boolean inQuotes = false;
+			boolean inTarget = false;
+
+			while (index < length) {
+
+				char c = source.charAt(index++);
+
+				if (inQuotes) {
+
+					if (c == '\\') {
+						index++;
+					} else if (c == '"') {
+						inQuotes = false;
+					}
+
+				} else if (inTarget) {
+
+					inTarget = c != '>';
+
+				} else if (c == '"') {
+					inQuotes = true;
+				} else if (c == '<') {
+					inTarget = true;
+				} else if (c == ',') {
+					return;
+				}
+			}
+		}
+
+		private boolean skipValue() {
+
+			if (index < length && source.charAt(index) == '"') {
+
+				for (index++; index < length; index++) {
+
+					char c = source.charAt(index);
+
+					if (c == '\\') {
+						index++;
+					} else if (c == '"') {
+						index++;
+						return true;
+					}
+				}
+
+				return false;
+			}
+
+			int start = index;
+
+			while (index < length && isTokenCharacter(source.charAt(index))) {
+				index++;
+			}
+
+			return index > start;
+		}
+
+		private String getValue(int start, int end) {
+
+			if (source.charAt(start) != '"') {
+				return source.substring(start, end);
+			}
+
+			int contentEnd = end - 1;
+			int escape = source.indexOf('\\', start + 1);
+
+			if (escape == -1 || escape >= contentEnd) {
+				return source.substring(start + 1, contentEnd);
+			}
+
+			StringBuilder builder = new StringBuilder(contentEnd - start);
+
+			for (int i = start + 1; i < contentEnd; i++) {
+
+				char c = source.charAt(i);
+				builder.append(c == '\\' ? source.charAt(++i) : c);
+			}
+
+			return builder.toString();
+		}
+
+		private void skipWhitespace() {
+
+			while (index < length && isWhitespace(source.charAt(index))) {
+				index++;
+			}
+		}
+
+		private boolean consume(char c) {
+
+			if (index < length && source.charAt(index) == c) {
+				index++;
+				return true;
+			}
+
+			return false;
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link List} of {@link Link}s that keeps the links grouped by relation type. Looking up links by rel is a constant
+ * time operation and {@link #getLinksByRel()} exposes the groups in the order of the first occurrence of their rel.
+ * Links appended to the end of the list are added to the index directly and removed links are dropped from their
+ * group. All other modifications, as well as removals changing the order of the rels, rebuild the index right away so
+ * that read access never modifies the list.
+ * <p>
+ * Like {@link ArrayList}, the implementation is not thread-safe for modifications but can be read concurrently.
+ *
+ * @author agent
+ * @since 0.24
+ */
+public class LinkList extends AbstractList<Link> implements RandomAccess {
+
+	private final List<Link> links;
+	private Map<String, Group> index;
+
+	/**
+	 * Creates a new, empty {@link LinkList}.
+	 */
+	public LinkList() {
+
+		this.links = new ArrayList<Link>();
+		this.index = new LinkedHashMap<String, Group>();
+	}
+
+	/**
+	 * Creates a new {@link LinkList} containing the given {@link Link}s.
+	 *
+	 * @param links must not be {@literal null}.
+	 */
+	public LinkList(Collection<? extends Link> links) {
+
+		Assert.notNull(links, "Links must not be null!");
+
+		this.links = new ArrayList<Link>(links.size());
+		this.index = new LinkedHashMap<String, Group>();
+
+		addAll(links);
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given rel.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return the link with the given rel or {@literal null} if none found.
+	 */
+	public Link getLink(String rel) {
+
+		Group group = index.get(rel);
+
+		return group == null ? null : group.get(0);
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given rel in the order they were added.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return an unmodifiable view on the links, will never be {@literal null}.
+	 */
+	public List<Link> getLinks(String rel) {
+
+		Group group = index.get(rel);
+
+		return group == null ? Collections.<Link> emptyList() : group;
+	}
+
+	/**
+	 * Returns whether the list contains a {@link Link} with the given rel.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return
+	 */
+	public boolean hasLink(String rel) {
+		return index.containsKey(rel);
+	}
+
+	/**
+	 * Returns all {@link Link}s grouped by their rel. Both the rels and the links per rel are ordered by their insertion.
+	 *
+	 * @return an unmodifiable {@link Map} of unmodifiable {@link List}s, will never be {@literal null}.
+	 */
+	public Map<String, List<Link>> getLinksByRel() {
+		return Collections.<String, List<Link>> unmodifiableMap(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public Link get(int index) {
+		return links.get(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return links.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#add(int, java.lang.Object)
+	 */
+	@Override
+	public void add(int index, Link link) {
+
+		Assert.notNull(link, "Link must not be null!");
+
+		boolean append = index == links.size();
+
+		links.add(index, link);
+		modCount++;
+
+		if (append) {
+			addToIndex(this.index, link);
+		} else {
+			this.index = createIndex(links);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#set(int, java.lang.Object)
+	 */
+	@Override
+	public Link set(int index, Link link) {
+
+		Assert.notNull(link, "Link must not be null!");
+
+		Link previous = links.set(index, link);
+		this.index = createIndex(links);
+
+		return previous;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#remove(int)
+	 */
+	@Override
+	public Link remove(int index) {
+
+		Link removed = links.remove(index);
+		modCount++;
+
+		removeFromIndex(index, removed);
+
+		return removed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#clear()
+	 */
+	@Override
+	public void clear() {
+
+		links.clear();
+		modCount++;
+		this.index = new LinkedHashMap<String, Group>();
+	}
+
+	/**
+	 * Removes the given {@link Link} that was located at the given position from its {@link Group}. Drops the
+	 * {@link Group} if it gets empty and rebuilds the index only if the first occurrence of the rel moves behind the
+	 * first occurrence of another one.
+	 *
+	 * @param position the former position of the removed {@link Link}.
+	 * @param removed must not be {@literal null}.
+	 */
+	private void removeFromIndex(int position, Link removed) {
+
+		Group group = index.get(removed.getRel());
+		boolean first = group.links.get(0) == removed;
+
+		group.removeInstance(removed);
+
+		if (group.links.isEmpty()) {
+			index.remove(removed.getRel());
+			return;
+		}
+
+		if (!first) {
+			return;
+		}
+
+		Link newFirst = group.links.get(0);
+
+		for (int i = position; i < links.size() && links.get(i) != newFirst; i++) {
+
+			Link candidate = links.get(i);
+
+			if (index.get(candidate.getRel()).links.get(0) == candidate) {
+				this.index = createIndex(links);
+				return;
+			}
+		}
+	}
+
+	private static Map<String, Group> createIndex(List<Link> links) {
+
+		Map<String, Group> index = new LinkedHashMap<String, Group>();
+
+		for (Link link : links) {
+			addToIndex(index, link);
+		}
+
+		return index;
+	}
+
+	private static void addToIndex(Map<String, Group> index, Link link) {
+
+		Group group = index.get(link.getRel());
+
+		if (group == null) {
+			group = new Group();
+			index.put(link.getRel(), group);
+		}
+
+		group.links.add(link);
+	}
+
+	/**
+	 * Read-only view of the {@link Link}s sharing a rel.
+	 *
+	 * @author agent
+	 */
+	private static class Group extends AbstractList<Link> implements RandomAccess {
+
+		private final List<Link> links = new ArrayList<Link>(2);
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public Link get(int index) {
+			return links.get(index);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return links.size();
+		}
+
+		/**
+		 * Removes the given {@link Link} instance, not just an equal one, from the group.
+		 *
+		 * @param link must not be {@literal null}.
+		 */
+		private void removeInstance(Link link) {
+
+			for (int i = 0; i < links.size(); i++) {
+
+				if (links.get(i) == link) {
+					links.remove(i);
+					return;
+				}
+			}
+		}
+	}
+}
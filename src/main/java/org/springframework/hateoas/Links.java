@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2016 the original author or authors.
+ * Copyright 2013-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,9 +20,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -32,11 +31,9 @@ import org.springframework.util.StringUtils;
  */
 public class Links implements Iterable<Link> {
 
-	private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>;rel=\"[^\"]*\")");
-
 	static final Links NO_LINKS = new Links(Collections.<Link> emptyList());
 
-	private final List<Link> links;
+	private final LinkList links;
 
 	/**
 	 * Creates a new {@link Links} instance from the given {@link Link}s.
@@ -44,7 +41,20 @@ public class Links implements Iterable<Link> {
 	 * @param links
 	 */
 	public Links(List<Link> links) {
-		this.links = links == null ? Collections.<Link> emptyList() : Collections.unmodifiableList(links);
+		this.links = links == null ? new LinkList() : new LinkList(links);
+	}
+
+	/**
+	 * Creates a new {@link Links} instance backed by the given {@link LinkList}. The list is neither copied nor indexed
+	 * again, so changes to it are visible through the {@link Links} instance.
+	 * 
+	 * @param links must not be {@literal null}.
+	 * @since 0.24
+	 */
+	public Links(LinkList links) {
+
+		Assert.notNull(links, "Links must not be null!");
+		this.links = links;
 	}
 
 	/**
@@ -63,14 +73,7 @@ public class Links implements Iterable<Link> {
 	 * @return the {@link Link} with the given rel or {@literal null} if none found.
 	 */
 	public Link getLink(String rel) {
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				return link;
-			}
-		}
-
-		return null;
+		return links.getLink(rel);
 	}
 
 	/**
@@ -98,7 +101,7 @@ public class Links implements Iterable<Link> {
 	 * @return
 	 */
 	public boolean hasLink(String rel) {
-		return getLink(rel) != null;
+		return links.hasLink(rel);
 	}
 
 	/**
@@ -113,20 +116,7 @@ public class Links implements Iterable<Link> {
 			return NO_LINKS;
 		}
 
-		Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
-		List<Link> links = new ArrayList<Link>();
-
-		while (matcher.find()) {
-
-			Link link = Link.valueOf(matcher.group());
-
-			if (link != null) {
-				links.add(link);
-			}
-		}
-
-		return new Links(links);
-
+		return new Links(LinkHeaderUtils.parseLinks(source));
 	}
 
 	/**
@@ -144,7 +134,23 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public String toString() {
-		return StringUtils.collectionToCommaDelimitedString(links);
+
+		if (links.isEmpty()) {
+			return "";
+		}
+
+		StringBuilder builder = new StringBuilder(links.size() * 64);
+
+		for (Link link : links) {
+
+			if (builder.length() != 0) {
+				builder.append(',');
+			}
+
+			LinkHeaderUtils.appendLink(link, builder);
+		}
+
+		return builder.toString();
 	}
 
 	/* 
@@ -153,7 +159,7 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public Iterator<Link> iterator() {
-		return links.iterator();
+		return Collections.unmodifiableList(links).iterator();
 	}
 
 	/* 
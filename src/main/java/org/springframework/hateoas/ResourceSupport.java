@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2015 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,10 +33,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class ResourceSupport implements Identifiable<Link> {
 
-	private final List<Link> links;
+	private final LinkList links;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<Link>();
+		this.links = new LinkList();
 	}
 
 	/**
@@ -95,7 +95,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return
 	 */
 	public boolean hasLink(String rel) {
-		return getLink(rel) != null;
+		return links.hasLink(rel);
 	}
 
 	/**
@@ -123,14 +123,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the link with the given rel or {@literal null} if none found.
 	 */
 	public Link getLink(String rel) {
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				return link;
-			}
-		}
-
-		return null;
+		return links.getLink(rel);
 	}
 
 	/**
@@ -139,16 +132,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the links in a {@link List}
 	 */
 	public List<Link> getLinks(String rel) {
-
-		List<Link> relatedLinks = new ArrayList<Link>();
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				relatedLinks.add(link);
-			}
-		}
-
-		return relatedLinks;
+		return new ArrayList<Link>(links.getLinks(rel));
 	}
 
 	/* 
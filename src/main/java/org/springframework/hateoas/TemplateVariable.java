@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2016 the original author or authors.
+ * Copyright 2014-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,7 @@ public final class TemplateVariable implements Serializable {
 	String name;
 	TemplateVariable.VariableType type;
 	String description;
+	String modifier;
 
 	/**
 	 * Creates a new {@link TemplateVariable} with the given name and type.
@@ -60,14 +61,29 @@ public final class TemplateVariable implements Serializable {
 	 * @param description must not be {@literal null}.
 	 */
 	public TemplateVariable(String name, TemplateVariable.VariableType type, String description) {
+		this(name, type, description, "");
+	}
+
+	/**
+	 * Creates a new {@link TemplateVariable} with the given name, type, description and modifier.
+	 * 
+	 * @param name must not be {@literal null} or empty.
+	 * @param type must not be {@literal null}.
+	 * @param description must not be {@literal null}.
+	 * @param modifier the RFC 6570 prefix or explode modifier, must not be {@literal null}.
+	 * @since 0.24
+	 */
+	TemplateVariable(String name, TemplateVariable.VariableType type, String description, String modifier) {
 
 		Assert.hasText(name, "Variable name must not be null or empty!");
 		Assert.notNull(type, "Variable type must not be null!");
 		Assert.notNull(description, "Description must not be null!");
+		Assert.notNull(modifier, "Modifier must not be null!");
 
 		this.name = name;
 		this.type = type;
 		this.description = description;
+		this.modifier = modifier;
 	}
 
 	/**
@@ -79,6 +95,17 @@ public final class TemplateVariable implements Serializable {
 		return StringUtils.hasText(description);
 	}
 
+	/**
+	 * Returns the RFC 6570 modifier of the variable, i.e. {@code *} for exploded or {@code :} followed by the maximum
+	 * length for prefixed values. Empty if the variable doesn't use a modifier.
+	 * 
+	 * @return
+	 * @since 0.24
+	 */
+	String getModifier() {
+		return modifier == null ? "" : modifier;
+	}
+
 	/**
 	 * Returns whether the template variable is optional, which means the template can be expanded to a URI without a
 	 * value given for that variable.
@@ -135,7 +162,7 @@ public final class TemplateVariable implements Serializable {
 	@Override
 	public String toString() {
 
-		String base = String.format("{%s%s}", type.toString(), name);
+		String base = String.format("{%s%s%s}", type.toString(), name, getModifier());
 		return StringUtils.hasText(description) ? String.format("%s - %s", base, description) : base;
 	}
 
@@ -150,7 +177,10 @@ public final class TemplateVariable implements Serializable {
 		REQUEST_PARAM("?", true), //
 		REQUEST_PARAM_CONTINUED("&", true), //
 		SEGMENT("/", true), //
-		FRAGMENT("#", true);
+		FRAGMENT("#", true), //
+		RESERVED_STRING("+", false), //
+		DOT(".", true), //
+		PATH_STYLE_PARAMETER(";", true);
 
 		private static final List<VariableType> COMBINABLE_TYPES = Arrays.asList(REQUEST_PARAM, REQUEST_PARAM_CONTINUED);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2016 the original author or authors.
+ * Copyright 2014-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,17 @@ package org.springframework.hateoas;
 import static org.springframework.hateoas.TemplateVariable.VariableType.*;
 
 import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
@@ -63,6 +66,16 @@ public final class TemplateVariables implements Iterable<TemplateVariable>, Seri
 		this.variables = Collections.unmodifiableList(variables);
 	}
 
+	/**
+	 * Returns a new {@link Builder} to assemble {@link TemplateVariables} from individual {@link TemplateVariable}s.
+	 * 
+	 * @return
+	 * @since 0.24
+	 */
+	public static Builder builder() {
+		return new Builder(NONE);
+	}
+
 	/**
 	 * Concatenates the given {@link TemplateVariable}s to the current one.
 	 * 
@@ -80,17 +93,7 @@ public final class TemplateVariables implements Iterable<TemplateVariable>, Seri
 	 * @return
 	 */
 	public TemplateVariables concat(Collection<TemplateVariable> variables) {
-
-		List<TemplateVariable> result = new ArrayList<TemplateVariable>(this.variables.size() + variables.size());
-		result.addAll(this.variables);
-
-		for (TemplateVariable variable : variables) {
-			if (!containsEquivalentFor(variable)) {
-				result.add(variable);
-			}
-		}
-
-		return new TemplateVariables(result);
+		return new Builder(this).addAll(variables).build();
 	}
 
 	/**
@@ -112,17 +115,6 @@ public final class TemplateVariables implements Iterable<TemplateVariable>, Seri
 		return this.variables;
 	}
 
-	private boolean containsEquivalentFor(TemplateVariable candidate) {
-
-		for (TemplateVariable variable : this.variables) {
-			if (variable.isEquivalent(candidate)) {
-				return true;
-			}
-		}
-
-		return false;
-	}
-
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
@@ -170,9 +162,106 @@ public final class TemplateVariables implements Iterable<TemplateVariable>, Seri
 			}
 
 			previous = variable;
-			builder.append(variable.getName());
+			builder.append(variable.getName()).append(variable.getModifier());
 		}
 
 		return builder.append("}").toString();
 	}
+
+	/**
+	 * Builder for {@link TemplateVariables} that skips {@link TemplateVariable}s equivalent to one already added. Each
+	 * addition is a constant time operation.
+	 *
+	 * @author agent
+	 * @since 0.24
+	 * @see TemplateVariable#isEquivalent(TemplateVariable)
+	 */
+	public static final class Builder {
+
+		private final List<TemplateVariable> variables;
+		private final Set<Key> keys;
+
+		private Builder(TemplateVariables source) {
+
+			this.variables = new ArrayList<TemplateVariable>(source.variables);
+			this.keys = new HashSet<Key>();
+
+			for (TemplateVariable variable : source.variables) {
+				keys.add(Key.of(variable));
+			}
+		}
+
+		/**
+		 * Adds the given {@link TemplateVariable} unless an equivalent one was already added.
+		 * 
+		 * @param variable must not be {@literal null}.
+		 * @return the current {@link Builder}.
+		 */
+		public Builder add(TemplateVariable variable) {
+
+			Assert.notNull(variable, "Template variable must not be null!");
+
+			if (keys.add(Key.of(variable))) {
+				variables.add(variable);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Adds all given {@link TemplateVariable}s unless an equivalent one was already added.
+		 * 
+		 * @param variables must not be {@literal null}.
+		 * @return the current {@link Builder}.
+		 */
+		public Builder addAll(Iterable<TemplateVariable> variables) {
+
+			Assert.notNull(variables, "Template variables must not be null!");
+
+			for (TemplateVariable variable : variables) {
+				add(variable);
+			}
+
+			return this;
+		}
+
+		/**
+		 * Returns whether no {@link TemplateVariable} has been added yet.
+		 * 
+		 * @return
+		 */
+		public boolean isEmpty() {
+			return variables.isEmpty();
+		}
+
+		/**
+		 * Creates the {@link TemplateVariables} for the {@link TemplateVariable}s added so far.
+		 * 
+		 * @return will never be {@literal null}.
+		 */
+		public TemplateVariables build() {
+			return variables.isEmpty() ? NONE : new TemplateVariables(new ArrayList<TemplateVariable>(variables));
+		}
+	}
+
+	/**
+	 * Identifies a {@link TemplateVariable} by its name and type, considering the request parameter types the same as
+	 * {@link TemplateVariable#isEquivalent(TemplateVariable)} does.
+	 *
+	 * @author agent
+	 */
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static final class Key {
+
+		private final String name;
+		private final VariableType type;
+
+		static Key of(TemplateVariable variable) {
+
+			VariableType type = variable.getType();
+
+			return new Key(variable.getName(), REQUEST_PARAM.canBeCombinedWith(type) ? REQUEST_PARAM : type);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2015 the original author or authors.
+ * Copyright 2014-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,13 +18,14 @@ package org.springframework.hateoas;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import org.springframework.hateoas.CompiledUriTemplate.Expression;
+import org.springframework.hateoas.CompiledUriTemplate.VariableSpec;
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -32,7 +33,10 @@ import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Custom URI template to support qualified URI template variables.
+ * Custom URI template to support qualified URI template variables. Values are expanded as defined by RFC 6570, i.e.
+ * simple string expansions like {@code {id}} percent-encode all characters but the unreserved ones, including
+ * {@code /}, {@code :}, {@code @} and {@code +}. Use reserved expansions like {@code {+path}} to keep reserved
+ * characters as they are.
  * 
  * @author Oliver Gierke
  * @see http://tools.ietf.org/html/rfc6570
@@ -40,11 +44,12 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,]+)\\}");
 	private static final long serialVersionUID = -1007874653930162262L;
+	private static final UriTemplateCache CACHE = new UriTemplateCache(256);
 
 	private final TemplateVariables variables;;
 	private String baseUri;
+	private transient CompiledUriTemplate compiled;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -55,30 +60,60 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
-		int baseUriEndIndex = template.length();
+		CompiledUriTemplate compiled = CompiledUriTemplate.compile(template);
 		List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
 
-		while (matcher.find()) {
-
-			int start = matcher.start(0);
+		// Start of the optional expressions not followed by any literal or required expression
+		int baseUriEndIndex = template.length();
+		int previousEnd = -1;
 
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
+		for (Expression expression : compiled.getExpressions()) {
 
-			for (String name : names) {
-				TemplateVariable variable = new TemplateVariable(name, type);
+			int start = expression.getStart();
+			VariableType type = VariableType.from(expression.getOperator().getKey());
 
-				if (!variable.isRequired() && start < baseUriEndIndex) {
-					baseUriEndIndex = start;
-				}
+			for (VariableSpec spec : expression.getVariables()) {
+				variables.add(new TemplateVariable(spec.getName(), type, "", spec.getModifier()));
+			}
 
-				variables.add(variable);
+			if (!type.isOptional()) {
+				baseUriEndIndex = template.length();
+			} else if (baseUriEndIndex == template.length() || start != previousEnd + 1) {
+				baseUriEndIndex = start;
 			}
+
+			previousEnd = expression.getEnd();
+		}
+
+		if (previousEnd != template.length() - 1) {
+			baseUriEndIndex = template.length();
 		}
 
 		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
 		this.baseUri = template.substring(0, baseUriEndIndex);
+		this.compiled = baseUriEndIndex == template.length() ? compiled : null;
+	}
+
+	/**
+	 * Returns the {@link UriTemplate} for the given template string. Parsed templates are shared through a size-limited
+	 * cache, so prefer this method over the constructor for templates that are likely to be used repeatedly.
+	 * 
+	 * @param template must not be {@literal null} or empty.
+	 * @return
+	 * @since 0.24
+	 */
+	public static UriTemplate of(String template) {
+		return CACHE.get(template);
+	}
+
+	/**
+	 * Returns the {@link UriTemplateCache} backing {@link #of(String)}, e.g. to inspect its hit and miss statistics.
+	 * 
+	 * @return
+	 * @since 0.24
+	 */
+	public static UriTemplateCache getCache() {
+		return CACHE;
 	}
 
 	/**
@@ -152,7 +187,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return CompiledUriTemplate.containsExpression(candidate);
 	}
 
 	/**
@@ -189,46 +224,68 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 * @see #expand(Map)
 	 */
 	public URI expand(Object... parameters) {
+		return URI.create(expandToString(parameters));
+	}
+
+	/**
+	 * Expands the {@link UriTemplate} using the given parameters.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	public URI expand(Map<String, ? extends Object> parameters) {
+		return URI.create(expandToString(parameters));
+	}
+
+	/**
+	 * Expands the {@link UriTemplate} into its encoded {@link String} representation using the given parameters. The
+	 * values will be applied in the order of the variables discovered. Unlike {@link #expand(Object...)}, the result is
+	 * not turned into a {@link URI}. Characters not allowed in a URI are percent-encoded in the literal parts of the
+	 * template as well, no matter whether it contains any variables.
+	 * 
+	 * @param parameters
+	 * @return
+	 * @since 0.24
+	 * @see #expandToString(Map)
+	 */
+	public String expandToString(Object... parameters) {
 
 		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
+			return getCompiledTemplate().expand(Collections.<String, Object> emptyMap());
 		}
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
+		Map<String, Object> values = new HashMap<String, Object>();
+		Iterator<TemplateVariable> iterator = variables.iterator();
+
+		for (int i = 0; i < parameters.length && iterator.hasNext(); i++) {
 
-		for (TemplateVariable variable : getOptionalVariables()) {
+			String name = iterator.next().getName();
 
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
+			if (!values.containsKey(name)) {
+				values.put(name, parameters[i]);
+			}
 		}
 
-		return builder.build().toUri();
+		return doExpand(values);
 	}
 
 	/**
-	 * Expands the {@link UriTemplate} using the given parameters.
+	 * Expands the {@link UriTemplate} into its encoded {@link String} representation using the given parameters. Unlike
+	 * {@link #expand(Map)}, the result is not turned into a {@link URI}.
 	 * 
 	 * @param parameters must not be {@literal null}.
 	 * @return
+	 * @since 0.24
 	 */
-	public URI expand(Map<String, ? extends Object> parameters) {
+	public String expandToString(Map<String, ? extends Object> parameters) {
 
 		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
+			return getCompiledTemplate().expand(Collections.<String, Object> emptyMap());
 		}
 
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-
-		for (TemplateVariable variable : getOptionalVariables()) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
-		}
-
-		return builder.build().toUri();
+		return doExpand(parameters);
 	}
 
 	/* 
@@ -247,18 +304,63 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	@Override
 	public String toString() {
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+		TemplateVariables optionalVariables = getOptionalVariables();
+
+		return optionalVariables.asList().isEmpty() ? baseUri
+				: baseUri + optionalVariables.toString(hasQueryParameters(baseUri));
+	}
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
+	private String doExpand(Map<String, ? extends Object> parameters) {
+
+		for (TemplateVariable variable : variables) {
+			if (variable.isRequired() && !parameters.containsKey(variable.getName())) {
+				throw new IllegalArgumentException(String.format("Template variable %s is required but no value was given!",
+						variable.getName()));
+			}
+		}
+
+		return getCompiledTemplate().expand(parameters);
 	}
 
+	/**
+	 * Returns the {@link CompiledUriTemplate} for the current template, compiling it on first access.
+	 * 
+	 * @return
+	 */
+	private CompiledUriTemplate getCompiledTemplate() {
+
+		CompiledUriTemplate compiled = this.compiled;
+
+		if (compiled == null) {
+			compiled = CompiledUriTemplate.compile(toString());
+			this.compiled = compiled;
+		}
+
+		return compiled;
+	}
+
+	/**
+	 * Returns the optional {@link TemplateVariable}s to be rendered after the base URI, i.e. the ones not already
+	 * contained in it.
+	 * 
+	 * @return
+	 */
 	private TemplateVariables getOptionalVariables() {
 
 		List<TemplateVariable> result = new ArrayList<TemplateVariable>();
+		List<String> namesInBaseUri = null;
 
 		for (TemplateVariable variable : this) {
-			if (!variable.isRequired()) {
+
+			if (variable.isRequired()) {
+				continue;
+			}
+
+			if (namesInBaseUri == null) {
+				namesInBaseUri = getVariableNames(baseUri);
+			}
+
+			if (!namesInBaseUri.contains(variable.getName())) {
 				result.add(variable);
 			}
 		}
@@ -266,37 +368,44 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		return new TemplateVariables(result);
 	}
 
+	private static List<String> getVariableNames(String uri) {
+
+		if (uri.indexOf('{') == -1) {
+			return Collections.emptyList();
+		}
+
+		List<String> names = new ArrayList<String>();
+
+		for (Expression expression : CompiledUriTemplate.compile(uri).getExpressions()) {
+			for (VariableSpec spec : expression.getVariables()) {
+				names.add(spec.getName());
+			}
+		}
+
+		return names;
+	}
+
 	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
+	 * Returns whether the given URI contains at least one query parameter.
 	 * 
-	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
+	 * @param uri must not be {@literal null}.
+	 * @return
 	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
+	private static boolean hasQueryParameters(String uri) {
 
-		if (value == null) {
+		for (int i = 0; i < uri.length(); i++) {
 
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(String.format("Template variable %s is required but no value was given!",
-						variable.getName()));
+			char c = uri.charAt(i);
+
+			if (c == '#') {
+				return false;
 			}
 
-			return;
+			if (c == '?') {
+				return i + 1 < uri.length() && uri.charAt(i + 1) != '#';
+			}
 		}
 
-		switch (variable.getType()) {
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
-		}
+		return false;
 	}
 }
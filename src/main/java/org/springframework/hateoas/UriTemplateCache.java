@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * A size-limited, thread-safe cache of parsed {@link UriTemplate}s keyed by the template {@link String}. Once the cache
+ * exceeds its capacity, the templates added first are evicted. Keeps track of cache hits and misses.
+ *
+ * @author agent
+ * @since 0.24
+ * @see UriTemplate#of(String)
+ */
+public final class UriTemplateCache {
+
+	private final int capacity;
+	private final ConcurrentMap<String, UriTemplate> templates;
+	private final Queue<String> keys = new ConcurrentLinkedQueue<String>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Creates a new {@link UriTemplateCache} holding at most the given number of {@link UriTemplate}s.
+	 *
+	 * @param capacity must be greater than zero.
+	 */
+	public UriTemplateCache(int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		this.capacity = capacity;
+		this.templates = new ConcurrentHashMap<String, UriTemplate>(capacity * 4 / 3 + 1);
+	}
+
+	/**
+	 * Returns the {@link UriTemplate} for the given template, parsing and caching it if necessary.
+	 *
+	 * @param template must not be {@literal null} or empty.
+	 * @return
+	 */
+	public UriTemplate get(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		UriTemplate result = templates.get(template);
+
+		if (result != null) {
+			hits.incrementAndGet();
+			return result;
+		}
+
+		misses.incrementAndGet();
+		result = new UriTemplate(template);
+
+		UriTemplate existing = templates.putIfAbsent(template, result);
+
+		if (existing != null) {
+			return existing;
+		}
+
+		keys.add(template);
+
+		if (size.incrementAndGet() > capacity) {
+			evict();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of lookups that were answered from the cache.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups that required the template to be parsed.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of {@link UriTemplate}s currently cached.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Returns the maximum number of {@link UriTemplate}s cached.
+	 *
+	 * @return
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Removes all cached {@link UriTemplate}s and resets the statistics.
+	 */
+	public void clear() {
+
+		String key;
+
+		while ((key = keys.poll()) != null) {
+			if (templates.remove(key) != null) {
+				size.decrementAndGet();
+			}
+		}
+
+		hits.set(0);
+		misses.set(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("UriTemplateCache(size=%s, capacity=%s, hits=%s, misses=%s)", size(), capacity,
+				getHitCount(), getMissCount());
+	}
+
+	private void evict() {
+
+		while (size.get() > capacity) {
+
+			String oldest = keys.poll();
+
+			if (oldest == null) {
+				return;
+			}
+
+			if (templates.remove(oldest) != null) {
+				size.decrementAndGet();
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2015 the original author or authors.
+ * Copyright 2013-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -382,13 +382,13 @@ public class Traverson {
 		private String traverseToFinalUrl() {
 
 			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
-			return new UriTemplate(uri).toString();
+			return UriTemplate.of(uri).toString();
 		}
 
 		private URI traverseToExpandedFinalUrl() {
 
 			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
-			return new UriTemplate(uri).expand(templateParameters);
+			return UriTemplate.of(uri).expand(templateParameters);
 		}
 
 		private String getAndFindLinkWithRel(String uri, Iterator<Hop> rels) {
@@ -398,7 +398,7 @@ public class Traverson {
 			}
 
 			HttpEntity<?> request = prepareRequest(headers);
-			UriTemplate template = new UriTemplate(uri);
+			UriTemplate template = UriTemplate.of(uri);
 
 			ResponseEntity<String> responseEntity = operations.exchange(template.expand(), GET, request, String.class);
 			MediaType contentType = responseEntity.getHeaders().getContentType();
@@ -420,7 +420,7 @@ public class Traverson {
 			if (!thisHop.hasParameters()) {
 				return getAndFindLinkWithRel(link.getHref(), rels);
 			} else {
-				return getAndFindLinkWithRel(link.expand(thisHop.getMergedParameters(templateParameters)).getHref(), rels);
+				return getAndFindLinkWithRel(link.expandToString(thisHop.getMergedParameters(templateParameters)), rels);
 			}
 		}
 	}
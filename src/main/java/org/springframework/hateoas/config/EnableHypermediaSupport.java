@@ -53,6 +53,16 @@ public @interface EnableHypermediaSupport {
 	 */
 	HypermediaType[] type();
 
+	/**
+	 * Whether to populate the caches used to build links to Spring MVC controllers for all registered handler methods on
+	 * startup instead of on first use. Avoids the latency of looking up mappings, parameter metadata and creating proxy
+	 * classes during the first requests after deployment at the expense of a slightly longer startup.
+	 * 
+	 * @return
+	 * @since 0.24
+	 */
+	boolean warmUpLinkCaches() default false;
+
 	/**
 	 * Hypermedia representation types supported.
 	 * 
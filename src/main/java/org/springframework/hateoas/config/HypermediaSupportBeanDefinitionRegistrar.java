@@ -40,9 +40,11 @@ import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.hateoas.EntityLinks;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.RelProvider;
@@ -55,6 +57,7 @@ import org.springframework.hateoas.core.EvoInflectorRelProvider;
 import org.springframework.hateoas.hal.CurieProvider;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.mvc.ControllerLinkCacheInitializer;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperFactoryBean;
@@ -140,6 +143,10 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 			registerSourcedBeanDefinition(linkDiscoverersBuilder, metadata, registry);
 		}
 
+		if (Boolean.TRUE.equals(attributes.get("warmUpLinkCaches"))) {
+			registerSourcedBeanDefinition(rootBeanDefinition(ControllerLinkCacheInitializer.class), metadata, registry);
+		}
+
 		registerRelProviderPluginRegistryAndDelegate(registry);
 	}
 
@@ -223,6 +230,9 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 	 */
 	static class Jackson2ModuleRegisteringBeanPostProcessor implements BeanPostProcessor, BeanFactoryAware {
 
+		private static final List<String> DEFAULT_LINK_RELATIONS = Arrays.asList(Link.REL_SELF, Link.REL_FIRST,
+				Link.REL_PREVIOUS, Link.REL_NEXT, Link.REL_LAST);
+
 		private AutowireCapableBeanFactory beanFactory;
 
 		/* 
@@ -287,9 +297,12 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 			MessageSourceAccessor linkRelationMessageSource = beanFactory.getBean(MESSAGE_SOURCE_BEAN_NAME,
 					MessageSourceAccessor.class);
 
+			Jackson2HalModule.HalHandlerInstantiator instantiator = new Jackson2HalModule.HalHandlerInstantiator(relProvider,
+					curieProvider, linkRelationMessageSource, beanFactory);
+			instantiator.prefillLinkTitleCache(DEFAULT_LINK_RELATIONS, LocaleContextHolder.getLocale());
+
 			halObjectMapper.registerModule(new Jackson2HalModule());
-			halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(relProvider, curieProvider,
-					linkRelationMessageSource, beanFactory));
+			halObjectMapper.setHandlerInstantiator(instantiator);
 
 			MappingJackson2HttpMessageConverter halConverter = new TypeConstrainedMappingJackson2HttpMessageConverter(
 					ResourceSupport.class);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,20 +16,26 @@
 package org.springframework.hateoas.core;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
 import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.target.EmptyTargetSource;
 import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
 import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.core.SpringProperties;
 import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -47,6 +53,16 @@ public class DummyInvocationUtils {
 	private static final Map<Class<?>, Class<?>> CLASS_CACHE = new ConcurrentReferenceHashMap<Class<?>, Class<?>>(16,
 			ReferenceType.WEAK);
 
+	/**
+	 * Name of the Spring property to enable recycling of the proxies handed out by {@link #methodOn(Class, Object...)}.
+	 * 
+	 * @see #setRecycleProxies(boolean)
+	 */
+	public static final String RECYCLE_PROXIES_PROPERTY = "spring.hateoas.recycle-invocation-proxies";
+
+	private static volatile ThreadLocal<Map<Class<?>, RecyclableProxy>> recyclableProxies = createRecyclableProxies();
+	private static volatile boolean recycleProxies = SpringProperties.getFlag(RECYCLE_PROXIES_PROPERTY);
+
 	public interface LastInvocationAware {
 
 		Iterator<Object> getObjectParameters();
@@ -67,8 +83,10 @@ public class DummyInvocationUtils {
 		private static final Method GET_OBJECT_PARAMETERS;
 
 		private final Class<?> targetType;
-		private final Object[] objectParameters;
+		private final Map<Class<?>, Object> returnValueProxies;
+		private Object[] objectParameters;
 		private MethodInvocation invocation;
+		private boolean consumed;
 
 		static {
 			GET_INVOCATIONS = ReflectionUtils.findMethod(LastInvocationAware.class, "getLastInvocation");
@@ -83,14 +101,60 @@ public class DummyInvocationUtils {
 		 * @param parameters must not be {@literal null}.
 		 */
 		InvocationRecordingMethodInterceptor(Class<?> targetType, Object... parameters) {
+			this(targetType, false, parameters);
+		}
+
+		/**
+		 * Creates a new {@link InvocationRecordingMethodInterceptor} carrying the given parameters forward that might be
+		 * needed to populate the class level mapping. If {@code recyclable} is {@literal true}, proxies created for method
+		 * return values are cached so that the interceptor can be reused via {@link #reset(Object...)}.
+		 * 
+		 * @param targetType must not be {@literal null}.
+		 * @param recyclable whether the interceptor is going to be reused.
+		 * @param parameters must not be {@literal null}.
+		 */
+		InvocationRecordingMethodInterceptor(Class<?> targetType, boolean recyclable, Object... parameters) {
 
 			Assert.notNull(targetType, "Target type must not be null!");
 			Assert.notNull(parameters, "Parameters must not be null!");
 
 			this.targetType = targetType;
+			this.returnValueProxies = recyclable ? new HashMap<Class<?>, Object>() : null;
 			this.objectParameters = parameters.clone();
 		}
 
+		/**
+		 * Drops the currently recorded invocation and registers the given parameters to be used for the class level
+		 * mapping of the next one.
+		 * 
+		 * @param parameters must not be {@literal null}.
+		 */
+		void reset(Object... parameters) {
+
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			this.objectParameters = parameters.clone();
+			this.invocation = null;
+			this.consumed = false;
+		}
+
+		/**
+		 * Marks the currently recorded invocation as consumed, i.e. a link has been built from it. The invocation and the
+		 * class level parameters are kept so that the proxy and the invocation result can still be used.
+		 */
+		void consume() {
+			this.consumed = true;
+		}
+
+		/**
+		 * Returns whether an invocation was recorded that no link has been built from yet.
+		 * 
+		 * @return
+		 */
+		boolean hasPendingInvocation() {
+			return invocation != null && !consumed;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.cglib.proxy.MethodInterceptor#intercept(java.lang.Object, java.lang.reflect.Method, java.lang.Object[], org.springframework.cglib.proxy.MethodProxy)
@@ -107,9 +171,26 @@ public class DummyInvocationUtils {
 			}
 
 			this.invocation = new SimpleMethodInvocation(targetType, method, args);
+			this.consumed = false;
 
 			Class<?> returnType = method.getReturnType();
-			return returnType.cast(getProxyWithInterceptor(returnType, this, obj.getClass().getClassLoader()));
+			return returnType.cast(getReturnValueProxy(returnType, obj.getClass().getClassLoader()));
+		}
+
+		private Object getReturnValueProxy(Class<?> returnType, ClassLoader classLoader) {
+
+			if (returnValueProxies == null) {
+				return getProxyWithInterceptor(returnType, this, classLoader);
+			}
+
+			Object proxy = returnValueProxies.get(returnType);
+
+			if (proxy == null) {
+				proxy = getProxyWithInterceptor(returnType, this, classLoader);
+				returnValueProxies.put(returnType, proxy);
+			}
+
+			return proxy;
 		}
 
 		/* 
@@ -156,10 +237,149 @@ public class DummyInvocationUtils {
 
 		Assert.notNull(type, "Given type must not be null!");
 
+		if (recycleProxies) {
+			return getRecyclableProxy(type, parameters);
+		}
+
 		InvocationRecordingMethodInterceptor interceptor = new InvocationRecordingMethodInterceptor(type, parameters);
 		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
 	}
 
+	/**
+	 * Configures whether the proxies returned from {@link #methodOn(Class, Object...)} shall be recycled. If enabled, a
+	 * single proxy per type and thread is handed out and reset by the next call to {@link #methodOn(Class, Object...)}
+	 * for the same type. Thus, the result of a dummy invocation has to be consumed before the next one is recorded on
+	 * the same type, as it's the case for the common {@code linkTo(methodOn(Controller.class).method(…))} idiom.
+	 * Obtaining the proxy again while the invocation recorded on it has not been consumed yet results in an
+	 * {@link IllegalStateException}. Until then, both the proxy and the invocation result can be used to build
+	 * links as often as needed. Defaults to the value of the {@value #RECYCLE_PROXIES_PROPERTY} Spring property,
+	 * {@literal false} if not set.
+	 * <p>
+	 * Calling the method drops the proxies recycled so far on all threads, so that they (and the class loaders of the
+	 * proxied types) can be garbage collected, e.g. before an application is undeployed.
+	 * 
+	 * @param recycleProxies whether to recycle invocation recording proxies.
+	 * @since 0.24
+	 */
+	public static void setRecycleProxies(boolean recycleProxies) {
+
+		DummyInvocationUtils.recyclableProxies.remove();
+		DummyInvocationUtils.recyclableProxies = createRecyclableProxies();
+		DummyInvocationUtils.recycleProxies = recycleProxies;
+	}
+
+	/**
+	 * Marks the invocation recorded on the given dummy invocation result as consumed in case it was obtained from a
+	 * recycled proxy, so that the proxy can be handed out again by {@link #methodOn(Class, Object...)}. A no-op for all
+	 * other values.
+	 * 
+	 * @param invocationValue can be {@literal null}.
+	 * @see #setRecycleProxies(boolean)
+	 * @since 0.24
+	 */
+	public static void consumeInvocation(Object invocationValue) {
+
+		if (!(invocationValue instanceof LastInvocationAware)) {
+			return;
+		}
+
+		InvocationRecordingMethodInterceptor interceptor = getInterceptor(invocationValue);
+
+		if (interceptor != null && interceptor.returnValueProxies != null) {
+			interceptor.consume();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T getRecyclableProxy(Class<T> type, Object... parameters) {
+
+		Map<Class<?>, RecyclableProxy> proxies = recyclableProxies.get();
+		RecyclableProxy recyclable = proxies.get(type);
+
+		if (recyclable != null && recyclable.getInterceptor().hasPendingInvocation()) {
+
+			// Drop the proxy as the pending invocation result still refers to it
+			proxies.remove(type);
+
+			throw new IllegalStateException(String.format(
+					"Recycled proxy for %s still holds the unconsumed invocation of %s! Build the link from an invocation result before recording the next one on the same type.",
+					type.getName(), recyclable.getInterceptor().getLastInvocation().getMethod()));
+		}
+
+		if (recyclable == null) {
+
+			InvocationRecordingMethodInterceptor interceptor = new InvocationRecordingMethodInterceptor(type, true,
+					parameters);
+			recyclable = new RecyclableProxy(getProxyWithInterceptor(type, interceptor, type.getClassLoader()),
+					interceptor);
+			proxies.put(type, recyclable);
+
+		} else {
+			recyclable.getInterceptor().reset(parameters);
+		}
+
+		return (T) recyclable.getProxy();
+	}
+
+	private static ThreadLocal<Map<Class<?>, RecyclableProxy>> createRecyclableProxies() {
+
+		return new ThreadLocal<Map<Class<?>, RecyclableProxy>>() {
+
+			@Override
+			protected Map<Class<?>, RecyclableProxy> initialValue() {
+				return new HashMap<Class<?>, RecyclableProxy>();
+			}
+		};
+	}
+
+	private static InvocationRecordingMethodInterceptor getInterceptor(Object proxy) {
+
+		if (proxy instanceof Factory) {
+
+			Callback callback = ((Factory) proxy).getCallback(0);
+			return callback instanceof InvocationRecordingMethodInterceptor ? (InvocationRecordingMethodInterceptor) callback
+					: null;
+		}
+
+		if (proxy instanceof Advised) {
+
+			for (Advisor advisor : ((Advised) proxy).getAdvisors()) {
+				if (advisor.getAdvice() instanceof InvocationRecordingMethodInterceptor) {
+					return (InvocationRecordingMethodInterceptor) advisor.getAdvice();
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns a {@link LastInvocationAware} exposing an invocation of the given {@link Method} with the given arguments as
+	 * if it had been recorded on a proxy obtained via {@link #methodOn(Class, Object...)}. Other than the latter, no
+	 * proxy instance is created, which makes this the cheaper option in case a {@link Method} handle is already at hand.
+	 * 
+	 * @param type the type the method is considered to be invoked on, must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the method arguments, must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 0.24
+	 */
+	public static LastInvocationAware invocationOf(Class<?> type, Method method, Object[] arguments,
+			Object... parameters) {
+
+		Assert.notNull(type, "Given type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.isTrue(method.getDeclaringClass().isAssignableFrom(type),
+				String.format("Method %s is not declared on type %s!", method, type.getName()));
+		Assert.isTrue(method.getParameterTypes().length == arguments.length, String.format(
+				"Method %s expects %s arguments but got %s!", method, method.getParameterTypes().length, arguments.length));
+
+		return new RecordedInvocation(new SimpleMethodInvocation(type, method, arguments.clone()), parameters.clone());
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
 			ClassLoader classLoader) {
@@ -185,6 +405,24 @@ public class DummyInvocationUtils {
 		return (T) factory;
 	}
 
+	/**
+	 * Eagerly creates the proxy class used by {@link #methodOn(Class, Object...)} for the given type so that the first
+	 * dummy invocation doesn't have to. Interfaces and types that cannot be proxied are ignored.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @since 0.24
+	 */
+	public static void prepareProxyClass(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (type.isInterface() || Modifier.isFinal(type.getModifiers())) {
+			return;
+		}
+
+		getOrCreateEnhancedClass(type, type.getClassLoader());
+	}
+
 	public interface MethodInvocation {
 
 		Object[] getArguments();
@@ -225,6 +463,49 @@ public class DummyInvocationUtils {
 		return result;
 	}
 
+	/**
+	 * {@link LastInvocationAware} for a {@link MethodInvocation} that was handed in explicitly rather than recorded by a
+	 * proxy.
+	 * 
+	 * @author agent
+	 */
+	@RequiredArgsConstructor
+	private static class RecordedInvocation implements LastInvocationAware {
+
+		private final MethodInvocation invocation;
+		private final Object[] objectParameters;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getLastInvocation()
+		 */
+		@Override
+		public MethodInvocation getLastInvocation() {
+			return invocation;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getObjectParameters()
+		 */
+		@Override
+		public Iterator<Object> getObjectParameters() {
+			return Arrays.asList(objectParameters).iterator();
+		}
+	}
+
+	/**
+	 * A proxy alongside the {@link InvocationRecordingMethodInterceptor} backing it.
+	 * 
+	 * @author agent
+	 */
+	@Value
+	private static class RecyclableProxy {
+
+		Object proxy;
+		InvocationRecordingMethodInterceptor interceptor;
+	}
+
 	@Value
 	static class SimpleMethodInvocation implements MethodInvocation {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2016 the original author or authors.
+ * Copyright 2016-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,16 @@ package org.springframework.hateoas.core;
 
 import lombok.experimental.UtilityClass;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.UUID;
 
 import org.springframework.util.Assert;
 import org.springframework.web.util.UriUtils;
 
 /**
- * Utilities for URI encoding.
- * 
+ * Utilities for URI encoding. Produces the same results as the corresponding methods of {@link UriUtils} using UTF-8 but
+ * returns the source value as is in case it doesn't contain any character that needs to be encoded.
+ *
  * @author Oliver Gierke
  * @since 0.22
  * @soundtrack Don Philippe - Between Now And Now (Between Now And Now)
@@ -32,11 +34,12 @@ import org.springframework.web.util.UriUtils;
 @UtilityClass
 public class EncodingUtils {
 
-	private static final String ENCODING = "UTF-8";
+	private static final Charset ENCODING = Charset.forName("UTF-8");
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
 	/**
 	 * Encodes the given path value.
-	 * 
+	 *
 	 * @param source must not be {@literal null}.
 	 * @return
 	 */
@@ -44,16 +47,27 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Path value must not be null!");
 
-		try {
-			return UriUtils.encodePath(source.toString(), ENCODING);
-		} catch (UnsupportedEncodingException o_O) {
-			throw new IllegalStateException(o_O);
-		}
+		return encode(source, Component.PATH);
+	}
+
+	/**
+	 * Encodes the given path value into the given {@link StringBuilder}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 * @since 0.24
+	 */
+	public static StringBuilder encodePath(Object source, StringBuilder target) {
+
+		Assert.notNull(source, "Path value must not be null!");
+
+		return encode(source, Component.PATH, target);
 	}
 
 	/**
 	 * Encodes the given request parameter value.
-	 * 
+	 *
 	 * @param source must not be {@literal null}.
 	 * @return
 	 */
@@ -61,16 +75,27 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Request parameter value must not be null!");
 
-		try {
-			return UriUtils.encodeQueryParam(source.toString(), ENCODING);
-		} catch (UnsupportedEncodingException o_O) {
-			throw new IllegalStateException(o_O);
-		}
+		return encode(source, Component.QUERY_PARAM);
+	}
+
+	/**
+	 * Encodes the given request parameter value into the given {@link StringBuilder}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 * @since 0.24
+	 */
+	public static StringBuilder encodeParameter(Object source, StringBuilder target) {
+
+		Assert.notNull(source, "Request parameter value must not be null!");
+
+		return encode(source, Component.QUERY_PARAM, target);
 	}
 
 	/**
 	 * Encodes the given fragment value.
-	 * 
+	 *
 	 * @param source must not be {@literal null}.
 	 * @return
 	 */
@@ -78,10 +103,165 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Fragment value must not be null!");
 
-		try {
-			return UriUtils.encodeFragment(source.toString(), ENCODING);
-		} catch (UnsupportedEncodingException o_O) {
-			throw new IllegalStateException(o_O);
+		return encode(source, Component.FRAGMENT);
+	}
+
+	/**
+	 * Encodes the given fragment value into the given {@link StringBuilder}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return the given {@link StringBuilder}.
+	 * @since 0.24
+	 */
+	public static StringBuilder encodeFragment(Object source, StringBuilder target) {
+
+		Assert.notNull(source, "Fragment value must not be null!");
+
+		return encode(source, Component.FRAGMENT, target);
+	}
+
+	private static String encode(Object source, Component component) {
+
+		if (isSafeType(source)) {
+			return source.toString();
+		}
+
+		String value = source.toString();
+		int index = indexOfFirstCharacterToEncode(value, component);
+
+		if (index == -1) {
+			return value;
+		}
+
+		StringBuilder builder = new StringBuilder(value.length() + 16);
+		return appendEncoded(value, index, component, builder).toString();
+	}
+
+	private static StringBuilder encode(Object source, Component component, StringBuilder target) {
+
+		Assert.notNull(target, "Target StringBuilder must not be null!");
+
+		if (isSafeType(source)) {
+			return appendSafeType(source, target);
+		}
+
+		String value = source.toString();
+		int index = indexOfFirstCharacterToEncode(value, component);
+
+		return index == -1 ? target.append(value) : appendEncoded(value, index, component, target);
+	}
+
+	/**
+	 * Returns whether the {@link String} representation of the given value is guaranteed to consist of characters that
+	 * don't need any encoding in any URI component.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isSafeType(Object source) {
+		return source instanceof Long || source instanceof Integer || source instanceof Short || source instanceof Byte
+				|| source instanceof UUID;
+	}
+
+	private static StringBuilder appendSafeType(Object source, StringBuilder target) {
+
+		if (source instanceof Long) {
+			return target.append(((Long) source).longValue());
+		}
+
+		if (source instanceof UUID) {
+			return target.append(source.toString());
+		}
+
+		return target.append(((Number) source).intValue());
+	}
+
+	private static int indexOfFirstCharacterToEncode(String value, Component component) {
+
+		for (int i = 0; i < value.length(); i++) {
+			if (!component.isAllowed(value.charAt(i))) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Appends the given value to the given {@link StringBuilder} encoding all characters starting at the given index.
+	 * Characters before that index are expected to not need any encoding.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param index the index of the first character that needs encoding.
+	 * @param component must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return
+	 */
+	private static StringBuilder appendEncoded(String value, int index, Component component, StringBuilder target) {
+
+		target.append(value, 0, index);
+
+		for (byte b : value.substring(index).getBytes(ENCODING)) {
+
+			int c = b & 0xFF;
+
+			if (component.isAllowed(c)) {
+				target.append((char) c);
+			} else {
+				target.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+			}
+		}
+
+		return target;
+	}
+
+	/**
+	 * The URI components supported, replicating the character sets of the corresponding
+	 * {@code HierarchicalUriComponents.Type}s.
+	 *
+	 * @author agent
+	 */
+	private static enum Component {
+
+		PATH {
+
+			@Override
+			boolean isAllowed(int c) {
+				return isPchar(c) || c == '/';
+			}
+		},
+
+		QUERY_PARAM {
+
+			@Override
+			boolean isAllowed(int c) {
+				return c != '=' && c != '+' && c != '&' && (isPchar(c) || c == '/' || c == '?');
+			}
+		},
+
+		FRAGMENT {
+
+			@Override
+			boolean isAllowed(int c) {
+				return isPchar(c) || c == '/' || c == '?';
+			}
+		};
+
+		abstract boolean isAllowed(int c);
+
+		private static boolean isPchar(int c) {
+			return isUnreserved(c) || isSubDelimiter(c) || c == ':' || c == '@';
+		}
+
+		private static boolean isUnreserved(int c) {
+			return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' //
+					|| c == '-' || c == '.' || c == '_' || c == '~';
+		}
+
+		private static boolean isSubDelimiter(int c) {
+			return c == '!' || c == '$' || c == '&' || c == '\'' || c == '(' || c == ')' || c == '*' || c == '+' || c == ','
+					|| c == ';' || c == '=';
 		}
 	}
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkBuilder;
+import org.springframework.hateoas.LinkBuilderFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Creates {@link Link}s pointing to sub-resources of a base {@link LinkBuilder} identified by a single path segment,
+ * i.e. what {@code builder.slash(id).withRel(rel)} creates. The base URI is rendered only once and identifiers
+ * representing a single path segment are encoded right into a buffer containing it. All others are handed to
+ * {@link LinkBuilder#slash(Object)}.
+ * <p>
+ * Instances reuse an internal buffer and are thus not thread-safe. They're meant to be created for e.g. a single page
+ * of entities and dropped afterwards. Instances created for a {@link LinkBuilderFactory} and target type only obtain
+ * the base {@link LinkBuilder} once the first {@link Link} is requested.
+ *
+ * @author agent
+ * @since 0.24
+ */
+public class IdentifierLinkExpander {
+
+	private final LinkBuilderFactory<?> factory;
+	private final Class<?> target;
+
+	private LinkBuilder builder;
+	private StringBuilder buffer;
+	private int baseLength;
+	private boolean appendable;
+
+	/**
+	 * Creates a new {@link IdentifierLinkExpander} for the given base {@link LinkBuilder}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 */
+	public IdentifierLinkExpander(LinkBuilder builder) {
+
+		Assert.notNull(builder, "LinkBuilder must not be null!");
+
+		this.factory = null;
+		this.target = null;
+
+		init(builder);
+	}
+
+	/**
+	 * Creates a new {@link IdentifierLinkExpander} for the {@link LinkBuilder} the given {@link LinkBuilderFactory}
+	 * creates for the given target type. The {@link LinkBuilder} is only obtained once the first {@link Link} is created.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	public IdentifierLinkExpander(LinkBuilderFactory<?> factory, Class<?> target) {
+
+		Assert.notNull(factory, "LinkBuilderFactory must not be null!");
+		Assert.notNull(target, "Target type must not be null!");
+
+		this.factory = factory;
+		this.target = target;
+	}
+
+	/**
+	 * Creates a {@link Link} with the given rel pointing to the sub-resource identified by the given id.
+	 *
+	 * @param id can be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	public Link withRel(Object id, String rel) {
+
+		if (builder == null) {
+			init(factory.linkTo(target));
+		}
+
+		String segment = id == null || id instanceof Identifiable ? null : id.toString();
+
+		if (!appendable || !LinkBuilderSupport.isSinglePathSegment(segment)) {
+			return builder.slash(id).withRel(rel);
+		}
+
+		buffer.setLength(baseLength);
+
+		return new Link(EncodingUtils.encodePath(segment, buffer).toString(), rel);
+	}
+
+	private void init(LinkBuilder builder) {
+
+		String base = builder.withSelfRel().getHref();
+
+		this.builder = builder;
+		this.appendable = base.indexOf('?') == -1 && base.indexOf('#') == -1 && base.indexOf('{') == -1;
+		this.buffer = new StringBuilder(base.length() + 40).append(base);
+
+		if (appendable && !base.endsWith("/")) {
+			buffer.append('/');
+		}
+
+		this.baseLength = buffer.length();
+	}
+
+	/**
+	 * Creates a {@link Link} with the self rel pointing to the sub-resource identified by the given id.
+	 *
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	public Link withSelfRel(Object id) {
+		return withRel(id, Link.REL_SELF);
+	}
+
+	/**
+	 * Creates {@link Link}s with the self rel pointing to the sub-resources identified by the given ids.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return
+	 */
+	public List<Link> withSelfRel(Iterable<?> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<Link> result = new ArrayList<Link>();
+
+		for (Object id : ids) {
+			result.add(withSelfRel(id));
+		}
+
+		return result;
+	}
+}
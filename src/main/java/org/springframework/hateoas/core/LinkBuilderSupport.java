@@ -19,6 +19,9 @@ import static org.springframework.hateoas.core.EncodingUtils.*;
 import static org.springframework.web.util.UriComponentsBuilder.*;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.Link;
@@ -39,6 +42,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
 	private final UriComponents uriComponents;
+	private final List<String> pathSegments;
 
 	/**
 	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponentsBuilder}.
@@ -48,7 +52,9 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	public LinkBuilderSupport(UriComponentsBuilder builder) {
 
 		Assert.notNull(builder, "UriComponentsBuilder must not be null!");
+
 		this.uriComponents = builder.build();
+		this.pathSegments = Collections.emptyList();
 	}
 
 	/**
@@ -57,9 +63,25 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @param uriComponents must not be {@literal null}.
 	 */
 	public LinkBuilderSupport(UriComponents uriComponents) {
+		this(uriComponents, Collections.<String> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponents} and already encoded path segments
+	 * to be appended to them.
+	 * 
+	 * @param uriComponents must not be {@literal null}.
+	 * @param pathSegments must not be {@literal null}.
+	 * @since 0.24
+	 * @see #createNewInstance(UriComponents, List)
+	 */
+	protected LinkBuilderSupport(UriComponents uriComponents, List<String> pathSegments) {
 
 		Assert.notNull(uriComponents, "UriComponents must not be null!");
+		Assert.notNull(pathSegments, "Path segments must not be null!");
+
 		this.uriComponents = uriComponents;
+		this.pathSegments = pathSegments;
 	}
 
 	/*
@@ -86,12 +108,21 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 			return getThis();
 		}
 
+		if (isSinglePathSegment(path) && isAppendable(uriComponents)) {
+
+			List<String> segments = new ArrayList<String>(pathSegments.size() + 1);
+			segments.addAll(pathSegments);
+			segments.add(encodePath(path));
+
+			return createNewInstance(uriComponents, Collections.unmodifiableList(segments));
+		}
+
 		return slash(UriComponentsBuilder.fromUriString(path).build(), false);
 	}
 
 	protected T slash(UriComponents components, boolean encoded) {
 
-		String uriString = uriComponents.toUriString();
+		String uriString = getUriString();
 		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(uriComponents.toUri()) : fromUriString(uriString);
 
 		for (String pathSegment : components.getPathSegments()) {
@@ -125,7 +156,10 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return uriComponents.encode().toUri().normalize();
+
+		UriComponents components = pathSegments.isEmpty() ? uriComponents : fromUriString(getUriString()).build();
+
+		return components.encode().toUri().normalize();
 	}
 
 	/*
@@ -150,7 +184,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return uriComponents.toUriString();
+		return getUriString();
 	}
 
 	/**
@@ -167,4 +201,100 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @return
 	 */
 	protected abstract T createNewInstance(UriComponentsBuilder builder);
+
+	/**
+	 * Creates a new instance of the sub-class for the given {@link UriComponents} with the given already encoded path
+	 * segments appended. The default implementation renders the URI and hands it to
+	 * {@link #createNewInstance(UriComponentsBuilder)}. Override to hand the arguments to
+	 * {@link #LinkBuilderSupport(UriComponents, List)} to avoid re-parsing the URI for every appended segment.
+	 * 
+	 * @param uriComponents will never be {@literal null}.
+	 * @param pathSegments will never be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	protected T createNewInstance(UriComponents uriComponents, List<String> pathSegments) {
+		return createNewInstance(fromUriString(render(uriComponents, pathSegments)));
+	}
+
+	/**
+	 * Returns whether the given value represents a single path segment, i.e. it has text and doesn't contain any
+	 * characters that would cause {@link #slash(Object)} to consider it a URI consisting of multiple parts.
+	 * 
+	 * @param segment can be {@literal null}.
+	 * @return
+	 */
+	static boolean isSinglePathSegment(String segment) {
+
+		if (!StringUtils.hasText(segment)) {
+			return false;
+		}
+
+		for (int i = 0; i < segment.length(); i++) {
+
+			switch (segment.charAt(i)) {
+				case '/':
+				case '?':
+				case '#':
+				case ':':
+					return false;
+				default:
+			}
+		}
+
+		return true;
+	}
+
+	private String getUriString() {
+		return render(uriComponents, pathSegments);
+	}
+
+	/**
+	 * Returns whether path segments can be appended to the rendered form of the given {@link UriComponents} without
+	 * changing its semantics, i.e. whether the result equals the one of re-parsing the URI and adding the segments via
+	 * {@link UriComponentsBuilder#pathSegment(String...)}.
+	 * 
+	 * @param components must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isAppendable(UriComponents components) {
+
+		if (components.getSchemeSpecificPart() != null || components.getQuery() != null
+				|| components.getFragment() != null) {
+			return false;
+		}
+
+		String path = components.getPath();
+
+		return path == null || path.indexOf('?') == -1 && path.indexOf('#') == -1 && !path.contains("//");
+	}
+
+	/**
+	 * Renders the given {@link UriComponents} with the given path segments appended the way
+	 * {@link UriComponentsBuilder#pathSegment(String...)} does.
+	 * 
+	 * @param components must not be {@literal null}.
+	 * @param pathSegments must not be {@literal null}.
+	 * @return
+	 */
+	private static String render(UriComponents components, List<String> pathSegments) {
+
+		String base = components.toUriString();
+
+		if (pathSegments.isEmpty()) {
+			return base;
+		}
+
+		StringBuilder builder = new StringBuilder(base.length() + pathSegments.size() * 16).append(base);
+
+		if (base.endsWith("/")) {
+			builder.setLength(builder.length() - 1);
+		}
+
+		for (String segment : pathSegments) {
+			builder.append('/').append(segment);
+		}
+
+		return builder.toString();
+	}
 }
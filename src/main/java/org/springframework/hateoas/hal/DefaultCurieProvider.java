@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2016 the original author or authors.
+ * Copyright 2013-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,17 +21,22 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.hateoas.IanaRels;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Default implementation of {@link CurieProvider} rendering a single configurable {@link UriTemplate} based curie.
+ * Namespaced rels as well as the curie information are cached. The latter is cached per application URI in case
+ * relative {@link UriTemplate}s are used.
  * 
  * @author Oliver Gierke
  * @author Jeff Stano
@@ -39,8 +44,16 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
  */
 public class DefaultCurieProvider implements CurieProvider {
 
+	private static final int MAX_CACHED_RELS = 1024;
+	private static final int MAX_CACHED_APPLICATION_URIS = 16;
+
 	private final Map<String, UriTemplate> curies;
 	private final String defaultCurie;
+	private final boolean cacheCurieInformation;
+	private final boolean relativeCuries;
+
+	private final ConcurrentMap<String, String> namespacedRels = new ConcurrentHashMap<String, String>();
+	private final ConcurrentMap<String, Collection<Curie>> curieInformation = new ConcurrentHashMap<String, Collection<Curie>>();
 
 	/**
 	 * Creates a new {@link DefaultCurieProvider} for the given name and {@link UriTemplate}. The curie will be used to
@@ -78,6 +91,8 @@ public class DefaultCurieProvider implements CurieProvider {
 
 		Assert.notNull(curies, "Curies must not be null!");
 
+		boolean relativeCuries = false;
+
 		for (Entry<String, UriTemplate> entry : curies.entrySet()) {
 
 			String name = entry.getKey();
@@ -87,11 +102,18 @@ public class DefaultCurieProvider implements CurieProvider {
 			Assert.notNull(template, "UriTemplate must not be null!");
 			Assert.isTrue(template.getVariableNames().size() == 1,
 					String.format("Expected a single template variable in the UriTemplate %s!", template.toString()));
+
+			relativeCuries |= !template.toString().startsWith("http");
 		}
 
 		this.defaultCurie = StringUtils.hasText(defaultCurieName) ? defaultCurieName
 				: curies.size() == 1 ? curies.keySet().iterator().next() : null;
 		this.curies = Collections.unmodifiableMap(curies);
+		this.relativeCuries = relativeCuries;
+
+		// Caching is only safe if the hrefs are calculated by us
+		this.cacheCurieInformation = DefaultCurieProvider.class.equals(ReflectionUtils
+				.findMethod(getClass(), "getCurieHref", String.class, UriTemplate.class).getDeclaringClass());
 	}
 
 	/* 
@@ -101,17 +123,24 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public Collection<? extends Object> getCurieInformation(Links links) {
 
-		List<Curie> result = new ArrayList<Curie>(curies.size());
+		if (!cacheCurieInformation) {
+			return createCurieInformation(null);
+		}
 
-		for (Entry<String, UriTemplate> source : curies.entrySet()) {
+		String applicationUri = relativeCuries ? getApplicationUri() : "";
+		Collection<Curie> result = curieInformation.get(applicationUri);
 
-			String name = source.getKey();
-			UriTemplate template = source.getValue();
+		if (result != null) {
+			return result;
+		}
 
-			result.add(new Curie(name, getCurieHref(name, template)));
+		result = createCurieInformation(applicationUri);
+
+		if (curieInformation.size() < MAX_CACHED_APPLICATION_URIS) {
+			curieInformation.putIfAbsent(applicationUri, result);
 		}
 
-		return Collections.unmodifiableCollection(result);
+		return result;
 	}
 
 	/* 
@@ -130,8 +159,25 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public String getNamespacedRelFor(String rel) {
 
-		boolean prefixingNeeded = defaultCurie != null && !IanaRels.isIanaRel(rel) && !rel.contains(":");
-		return prefixingNeeded ? String.format("%s:%s", defaultCurie, rel) : rel;
+		if (defaultCurie == null) {
+			return rel;
+		}
+
+		String result = namespacedRels.get(rel);
+
+		if (result != null) {
+			return result;
+		}
+
+		boolean prefixingNeeded = !IanaRels.isIanaRel(rel) && !rel.contains(":");
+		result = prefixingNeeded ? defaultCurie.concat(":").concat(rel) : rel;
+
+		// Don't let arbitrary rels grow the cache without bounds
+		if (namespacedRels.size() < MAX_CACHED_RELS) {
+			namespacedRels.putIfAbsent(rel, result);
+		}
+
+		return result;
 	}
 
 	/**
@@ -144,12 +190,45 @@ public class DefaultCurieProvider implements CurieProvider {
 	 */
 	protected String getCurieHref(String name, UriTemplate template) {
 
-		if (template.toString().startsWith("http")) {
-			return template.toString();
+		return resolveHref(template, null);
+	}
+
+	/**
+	 * Creates the {@link Curie}s for all configured curies.
+	 * 
+	 * @param applicationUri the application URI to use for relative templates, can be {@literal null} to use the hrefs
+	 *          calculated by {@link #getCurieHref(String, UriTemplate)}.
+	 * @return
+	 */
+	private Collection<Curie> createCurieInformation(String applicationUri) {
+
+		List<Curie> result = new ArrayList<Curie>(curies.size());
+
+		for (Entry<String, UriTemplate> source : curies.entrySet()) {
+
+			String name = source.getKey();
+			UriTemplate template = source.getValue();
+			String href = applicationUri == null ? getCurieHref(name, template) : resolveHref(template, applicationUri);
+
+			result.add(new Curie(name, href));
+		}
+
+		return Collections.unmodifiableCollection(result);
+	}
+
+	private static String resolveHref(UriTemplate template, String applicationUri) {
+
+		String href = template.toString();
+
+		if (href.startsWith("http")) {
+			return href;
 		}
 
-		String applicationUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().expand().toString();
-		return applicationUri.concat(template.toString());
+		return (applicationUri == null ? getApplicationUri() : applicationUri).concat(href);
+	}
+
+	private static String getApplicationUri() {
+		return ServletUriComponentsBuilder.fromCurrentServletMapping().build().expand().toString();
 	}
 
 	/**
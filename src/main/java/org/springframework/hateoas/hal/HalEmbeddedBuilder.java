@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2015 the original author or authors.
+ * Copyright 2013-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,7 +31,8 @@ import org.springframework.util.StringUtils;
 
 /**
  * Builder class that allows collecting objects under the relation types defined for the objects but moving from the
- * single resource relation to the collection one, once more than one object of the same type is added.
+ * single resource relation to the collection one, once more than one object of the same type is added. Objects are
+ * appended to the collection already registered for a relation, and relations are resolved once per type.
  * 
  * @author Oliver Gierke
  * @author Dietrich Schulten
@@ -42,6 +43,9 @@ class HalEmbeddedBuilder {
 	private static final String INVALID_EMBEDDED_WRAPPER = "Embedded wrapper %s returned null for both the static rel and the rel target type! Make sure one of the two returns a non-null value!";
 
 	private final Map<String, Object> embeddeds = new HashMap<String, Object>();
+	private final Map<String, List<Object>> collections = new HashMap<String, List<Object>>();
+	private final Map<Class<?>, String> collectionRels = new HashMap<Class<?>, String>();
+	private final Map<Class<?>, String> itemRels = new HashMap<Class<?>, String>();
 	private final RelProvider provider;
 	private final CurieProvider curieProvider;
 	private final EmbeddedWrappers wrappers;
@@ -76,26 +80,31 @@ class HalEmbeddedBuilder {
 		}
 
 		String collectionRel = getDefaultedRelFor(wrapper, true);
-		String collectionOrItemRel = collectionRel;
+		List<Object> collection = collections.get(collectionRel);
+		Object value = wrapper.getValue();
 
-		if (!embeddeds.containsKey(collectionRel)) {
-			collectionOrItemRel = getDefaultedRelFor(wrapper, wrapper.isCollectionValue());
+		// Append to the collection already registered for the rel
+		if (collection != null) {
+			collection.addAll(asCollection(value));
+			return;
 		}
 
+		String collectionOrItemRel = embeddeds.containsKey(collectionRel) ? collectionRel
+				: getDefaultedRelFor(wrapper, wrapper.isCollectionValue());
 		Object currentValue = embeddeds.get(collectionOrItemRel);
-		Object value = wrapper.getValue();
 
 		if (currentValue == null && !wrapper.isCollectionValue()) {
 			embeddeds.put(collectionOrItemRel, value);
 			return;
 		}
 
-		List<Object> list = new ArrayList<Object>();
-		list.addAll(asCollection(currentValue));
-		list.addAll(asCollection(wrapper.getValue()));
+		collection = new ArrayList<Object>();
+		collection.addAll(asCollection(currentValue));
+		collection.addAll(asCollection(value));
 
 		embeddeds.remove(collectionOrItemRel);
-		embeddeds.put(collectionRel, list);
+		embeddeds.put(collectionRel, collection);
+		collections.put(collectionRel, collection);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -122,13 +131,23 @@ class HalEmbeddedBuilder {
 			throw new IllegalStateException(String.format(INVALID_EMBEDDED_WRAPPER, wrapper));
 		}
 
-		String rel = forCollection ? provider.getCollectionResourceRelFor(type) : provider.getItemResourceRelFor(type);
+		Map<Class<?>, String> rels = forCollection ? collectionRels : itemRels;
+		String rel = rels.get(type);
+
+		if (rel != null) {
+			return rel;
+		}
+
+		rel = forCollection ? provider.getCollectionResourceRelFor(type) : provider.getItemResourceRelFor(type);
 
 		if (curieProvider != null) {
 			rel = curieProvider.getNamespacedRelFor(rel);
 		}
 
-		return rel == null ? DEFAULT_REL : rel;
+		rel = rel == null ? DEFAULT_REL : rel;
+		rels.put(type, rel);
+
+		return rel;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,25 +16,31 @@
 package org.springframework.hateoas.hal;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkList;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.hal.DefaultCurieProvider.Curie;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -47,6 +53,9 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -69,11 +78,17 @@ import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
-import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.std.NonTypedScalarSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.NameTransformer;
 
 /**
  * Jackson 2 module implementation to render {@link Link} and {@link ResourceSupport} instances in HAL compatible JSON.
@@ -83,8 +98,16 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  */
 public class Jackson2HalModule extends SimpleModule {
 
+	/**
+	 * Spring property to disable caching link titles, e.g. if the {@link org.springframework.context.MessageSource}
+	 * backing them reloads its messages.
+	 * 
+	 * @since 0.24
+	 */
+	public static final String DISABLE_LINK_TITLE_CACHE_PROPERTY = "spring.hateoas.disable-link-title-cache";
+
 	private static final long serialVersionUID = 7806951456457932384L;
-	private static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = new Link("__rel__", "¯\\_(ツ)_/¯");
+	private static final String CURIED_EMBEDS_ATTRIBUTE = Jackson2HalModule.class.getName().concat(".CURIED_EMBEDS");
 
 	public Jackson2HalModule() {
 
@@ -93,6 +116,7 @@ public class Jackson2HalModule extends SimpleModule {
 		setMixInAnnotation(Link.class, LinkMixin.class);
 		setMixInAnnotation(ResourceSupport.class, ResourceSupportMixin.class);
 		setMixInAnnotation(Resources.class, ResourcesMixin.class);
+		setSerializerModifier(new HalResourceSerializerModifier());
 	}
 
 	/**
@@ -107,6 +131,41 @@ public class Jackson2HalModule extends SimpleModule {
 		return LinkMixin.class.equals(mapper.findMixInClassFor(Link.class));
 	}
 
+	/**
+	 * Records whether the embeds of the given resource use curied rels for the current serialization run. The
+	 * information is held in a serializer attribute so that the resource itself doesn't have to be touched.
+	 * 
+	 * @param provider must not be {@literal null}.
+	 * @param resource must not be {@literal null}.
+	 * @param curied
+	 */
+	private static void setCuriedEmbeds(SerializerProvider provider, Object resource, boolean curied) {
+
+		@SuppressWarnings("unchecked")
+		Map<Object, Boolean> curiedEmbeds = (Map<Object, Boolean>) provider.getAttribute(CURIED_EMBEDS_ATTRIBUTE);
+
+		if (curiedEmbeds == null) {
+			curiedEmbeds = new IdentityHashMap<Object, Boolean>();
+			provider.setAttribute(CURIED_EMBEDS_ATTRIBUTE, curiedEmbeds);
+		}
+
+		curiedEmbeds.put(resource, curied);
+	}
+
+	/**
+	 * Returns whether the embeds of the given resource use curied rels as recorded for the current serialization run.
+	 * 
+	 * @param provider must not be {@literal null}.
+	 * @param resource can be {@literal null}.
+	 * @return {@literal null} in case nothing was recorded for the given resource.
+	 */
+	private static Boolean getCuriedEmbeds(SerializerProvider provider, Object resource) {
+
+		Map<?, ?> curiedEmbeds = (Map<?, ?>) provider.getAttribute(CURIED_EMBEDS_ATTRIBUTE);
+
+		return curiedEmbeds == null ? null : (Boolean) curiedEmbeds.get(resource);
+	}
+
 	/**
 	 * Custom {@link JsonSerializer} to render Link instances in HAL compatible JSON.
 	 * 
@@ -117,12 +176,16 @@ public class Jackson2HalModule extends SimpleModule {
 
 		private static final long serialVersionUID = -1844788111509966406L;
 
-		private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+		private static final SerializedString HREF = new SerializedString("href");
+		private static final SerializedString TEMPLATED = new SerializedString("templated");
+		private static final SerializedString TITLE = new SerializedString("title");
+		private static final SerializedString NAME = new SerializedString("name");
+		private static final SerializedString CURIES = new SerializedString("curies");
 
 		private final BeanProperty property;
 		private final CurieProvider curieProvider;
 		private final EmbeddedMapper mapper;
-		private final MessageSourceAccessor accessor;
+		private final LinkTitleCache titles;
 
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageSourceAccessor accessor) {
 			this(null, curieProvider, mapper, accessor);
@@ -130,13 +193,18 @@ public class Jackson2HalModule extends SimpleModule {
 
 		public HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
 				MessageSourceAccessor accessor) {
+			this(property, curieProvider, mapper, new LinkTitleCache(accessor));
+		}
+
+		private HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
+				LinkTitleCache titles) {
 
 			super(TypeFactory.defaultInstance().constructType(List.class));
 
 			this.property = property;
 			this.curieProvider = curieProvider;
 			this.mapper = mapper;
-			this.accessor = accessor;
+			this.titles = titles;
 		}
 
 		/*
@@ -147,95 +215,207 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(List<Link> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			// sort links according to their relation
-			Map<String, List<Object>> sortedLinks = new LinkedHashMap<String, List<Object>>();
-			List<Link> links = new ArrayList<Link>();
+			// links are grouped by their relation already
+			LinkList links = value instanceof LinkList ? (LinkList) value : new LinkList(value);
+			Map<String, List<Link>> groups = links.getLinksByRel();
 
 			boolean prefixingRequired = curieProvider != null;
-			boolean curiedLinkPresent = false;
 			boolean skipCuries = !jgen.getOutputContext().getParent().inRoot();
+			boolean curiedLinkPresent = prefixingRequired && !skipCuries && hasCuriedEmbeds(jgen, provider);
 
-			Object currentValue = jgen.getCurrentValue();
+			// Groups whose rels are curied to the same one have to be written together
+			Map<String, List<List<Link>>> groupsByRel = new LinkedHashMap<String, List<List<Link>>>();
 
-			if (currentValue instanceof Resources) {
-				if (mapper.hasCuriedEmbed((Resources<?>) currentValue)) {
+			for (Entry<String, List<Link>> entry : groups.entrySet()) {
+
+				List<Link> group = entry.getValue();
+				String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(group.get(0)) : entry.getKey();
+
+				if (!entry.getKey().equals(rel)) {
 					curiedLinkPresent = true;
 				}
-			}
 
-			for (Link link : value) {
+				List<List<Link>> groupsForRel = groupsByRel.get(rel);
 
-				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
-					continue;
+				if (groupsForRel == null) {
+					groupsForRel = new ArrayList<List<Link>>(1);
+					groupsByRel.put(rel, groupsForRel);
 				}
 
-				String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
+				groupsForRel.add(group);
+			}
 
-				if (!link.getRel().equals(rel)) {
-					curiedLinkPresent = true;
+			jgen.writeStartObject();
+
+			for (Entry<String, List<List<Link>>> entry : groupsByRel.entrySet()) {
+
+				List<List<Link>> groupsForRel = entry.getValue();
+				int count = 0;
+
+				for (List<Link> group : groupsForRel) {
+					count += group.size();
 				}
 
-				if (sortedLinks.get(rel) == null) {
-					sortedLinks.put(rel, new ArrayList<Object>());
+				jgen.writeFieldName(entry.getKey());
+
+				if (count > 1) {
+					jgen.writeStartArray();
 				}
 
-				links.add(link);
+				for (List<Link> group : groupsForRel) {
+					writeLinks(group, group.get(0).getRel(), jgen, provider);
+				}
 
-				sortedLinks.get(rel).add(toHalLink(link));
+				if (count > 1) {
+					jgen.writeEndArray();
+				}
 			}
 
 			if (!skipCuries && prefixingRequired && curiedLinkPresent) {
 
-				ArrayList<Object> curies = new ArrayList<Object>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
-
-				sortedLinks.put("curies", curies);
+				jgen.writeFieldName(CURIES);
+				writeCuries(curieProvider.getCurieInformation(new Links(links)), jgen, provider);
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.uncheckedSimpleType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Drops the cached link titles, e.g. after the messages backing them have changed. Affects all
+		 * {@link HalLinkListSerializer}s created from the current one.
+		 * 
+		 * @since 0.24
+		 */
+		public void clearTitleCache() {
+			titles.clear();
+		}
+
+		/**
+		 * Resolves and caches the titles of the given link relations in the given {@link Locale} upfront. Affects all
+		 * {@link HalLinkListSerializer}s created from the current one.
+		 * 
+		 * @param rels must not be {@literal null}.
+		 * @param locale must not be {@literal null}.
+		 * @since 0.24
+		 */
+		public void prefillTitleCache(Iterable<String> rels, Locale locale) {
 
-			MapSerializer serializer = MapSerializer.construct(new String[] {}, mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property), null);
+			Assert.notNull(rels, "Link relations must not be null!");
+			Assert.notNull(locale, "Locale must not be null!");
 
-			serializer.serialize(sortedLinks, jgen, provider);
+			titles.prefill(rels, locale);
 		}
 
 		/**
-		 * Wraps the given link into a HAL specific extension.
+		 * Returns whether the embeds of the resource currently written use curied rels. Uses the information recorded by
+		 * {@link HalResourcesSerializer} and only maps the embeds of {@link Resources} if nothing was recorded.
 		 * 
-		 * @param link must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
 		 * @return
 		 */
-		private HalLink toHalLink(Link link) {
+		private boolean hasCuriedEmbeds(JsonGenerator jgen, SerializerProvider provider) {
 
-			String rel = link.getRel();
-			String title = getTitle(rel);
+			Object currentValue = jgen.getCurrentValue();
+			Boolean curiedEmbeds = getCuriedEmbeds(provider, currentValue);
 
-			if (title == null) {
-				title = getTitle(rel.contains(":") ? rel.substring(rel.indexOf(":") + 1) : rel);
+			if (curiedEmbeds != null) {
+				return curiedEmbeds;
 			}
 
-			return new HalLink(link, title);
+			return currentValue instanceof Resources && mapper.hasCuriedEmbed((Resources<?>) currentValue);
 		}
 
 		/**
-		 * Returns the title for the given local link relation resolved through the configured {@link MessageSourceAccessor}
-		 * .
+		 * Writes the given {@link Link}s sharing the given rel as HAL link objects.
 		 * 
-		 * @param localRel must not be {@literal null} or empty.
-		 * @return
+		 * @param links must not be {@literal null}.
+		 * @param rel must not be {@literal null} or empty.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
 		 */
-		private String getTitle(String localRel) {
+		private void writeLinks(List<Link> links, String rel, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			String title = titles.getTitle(rel);
 
-			Assert.hasText(localRel, "Local relation must not be null or empty!");
+			for (Link link : links) {
 
-			try {
-				return accessor == null ? null : accessor.getMessage(String.format(RELATION_MESSAGE_TEMPLATE, localRel));
-			} catch (NoSuchMessageException o_O) {
-				return null;
+				// Subclasses might expose additional properties, so we have to use the bean serializer for them
+				if (!Link.class.equals(link.getClass())) {
+					provider.findValueSerializer(HalLink.class, property).serialize(new HalLink(link, title), jgen, provider);
+					continue;
+				}
+
+				jgen.writeStartObject();
+				jgen.writeFieldName(HREF);
+				jgen.writeString(link.getHref());
+
+				if (link.isTemplated()) {
+					jgen.writeFieldName(TEMPLATED);
+					jgen.writeBoolean(true);
+				}
+
+				if (title != null) {
+					jgen.writeFieldName(TITLE);
+					jgen.writeString(title);
+				}
+
+				jgen.writeEndObject();
+			}
+		}
+
+		/**
+		 * Writes the given CURIE information as obtained from the {@link CurieProvider}. {@link Curie}s are written
+		 * directly, everything else is handed to the serializer registered for it.
+		 * 
+		 * @param curies can be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeCuries(Object curies, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			if (!(curies instanceof Collection)) {
+				writeValue(curies, jgen, provider);
+				return;
+			}
+
+			jgen.writeStartArray();
+
+			for (Object curie : (Collection<?>) curies) {
+
+				if (curie == null || !Curie.class.equals(curie.getClass())) {
+					writeValue(curie, jgen, provider);
+					continue;
+				}
+
+				Curie link = (Curie) curie;
+
+				jgen.writeStartObject();
+				jgen.writeFieldName(HREF);
+				jgen.writeString(link.getHref());
+				jgen.writeFieldName(NAME);
+				jgen.writeString(link.getName());
+
+				if (link.isTemplated()) {
+					jgen.writeFieldName(TEMPLATED);
+					jgen.writeBoolean(true);
+				}
+
+				jgen.writeEndObject();
+			}
+
+			jgen.writeEndArray();
+		}
+
+		private void writeValue(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			if (value == null) {
+				provider.defaultSerializeNull(jgen);
+			} else {
+				provider.findValueSerializer(value.getClass(), property).serialize(value, jgen, provider);
 			}
 		}
 
@@ -246,7 +426,7 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new HalLinkListSerializer(property, curieProvider, mapper, accessor);
+			return new HalLinkListSerializer(property, curieProvider, mapper, titles);
 		}
 
 		/*
@@ -343,10 +523,7 @@ public class Jackson2HalModule extends SimpleModule {
 			Object currentValue = jgen.getCurrentValue();
 
 			if (currentValue instanceof ResourceSupport) {
-
-				if (embeddedMapper.hasCuriedEmbed(value)) {
-					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
-				}
+				setCuriedEmbeds(provider, currentValue, EmbeddedMapper.hasCuriedRel(embeddeds.keySet()));
 			}
 
 			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
@@ -569,7 +746,7 @@ public class Jackson2HalModule extends SimpleModule {
 		public List<Link> deserialize(JsonParser jp, DeserializationContext ctxt)
 				throws IOException, JsonProcessingException {
 
-			List<Link> result = new ArrayList<Link>();
+			List<Link> result = new LinkList();
 			String relation;
 			Link link;
 
@@ -749,6 +926,28 @@ public class Jackson2HalModule extends SimpleModule {
 			this.serializers.put(HalLinkListSerializer.class, new HalLinkListSerializer(curieProvider, mapper, accessor));
 		}
 
+		/**
+		 * Drops the link titles cached by the {@link HalLinkListSerializer} registered, e.g. after the messages backing
+		 * them have changed.
+		 * 
+		 * @since 0.24
+		 */
+		public void clearLinkTitleCache() {
+			((HalLinkListSerializer) serializers.get(HalLinkListSerializer.class)).clearTitleCache();
+		}
+
+		/**
+		 * Resolves the titles of the given link relations in the given {@link Locale} upfront so that rendering the first
+		 * links doesn't have to.
+		 * 
+		 * @param rels must not be {@literal null}.
+		 * @param locale must not be {@literal null}.
+		 * @since 0.24
+		 */
+		public void prefillLinkTitleCache(Iterable<String> rels, Locale locale) {
+			((HalLinkListSerializer) serializers.get(HalLinkListSerializer.class)).prefillTitleCache(rels, locale);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.fasterxml.jackson.databind.cfg.HandlerInstantiator#deserializerInstance(com.fasterxml.jackson.databind.DeserializationConfig, com.fasterxml.jackson.databind.introspect.Annotated, java.lang.Class)
@@ -921,8 +1120,18 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public boolean hasCuriedEmbed(Iterable<?> source) {
+			return hasCuriedRel(map(source).keySet());
+		}
 
-			for (String rel : map(source).keySet()) {
+		/**
+		 * Returns whether any of the given rels is a curied one.
+		 * 
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		static boolean hasCuriedRel(Collection<String> rels) {
+
+			for (String rel : rels) {
 				if (rel.contains(":")) {
 					return true;
 				}
@@ -932,6 +1141,236 @@ public class Jackson2HalModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * {@link BeanSerializerModifier} to replace the serializer for {@link Resource} with a
+	 * {@link HalResourceSerializer}. Subclasses of {@link Resource} keep the default one as they might expose additional
+	 * properties.
+	 *
+	 * @author agent
+	 * @since 0.24
+	 */
+	private static class HalResourceSerializerModifier extends BeanSerializerModifier implements Serializable {
+
+		private static final long serialVersionUID = -3512186406938826932L;
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.BeanSerializerModifier#modifySerializer(com.fasterxml.jackson.databind.SerializationConfig, com.fasterxml.jackson.databind.BeanDescription, com.fasterxml.jackson.databind.JsonSerializer)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+				JsonSerializer<?> serializer) {
+
+			if (!Resource.class.equals(beanDesc.getBeanClass()) || !BeanSerializer.class.equals(serializer.getClass())) {
+				return serializer;
+			}
+
+			return new HalResourceSerializer((JsonSerializer<Object>) serializer);
+		}
+	}
+
+	/**
+	 * {@link JsonSerializer} for {@link Resource} that writes the properties of the content directly using the
+	 * unwrapping variant of the content's serializer, followed by the remaining properties of the {@link Resource} using
+	 * the writers of the default {@link BeanSerializer}. Hands off to the default serializer for everything it doesn't
+	 * handle itself, e.g. polymorphic type information, views, prefixed or suffixed unwrapping or content not serialized
+	 * as an object.
+	 *
+	 * @author agent
+	 * @since 0.24
+	 */
+	private static class HalResourceSerializer extends StdSerializer<Object>
+			implements ResolvableSerializer, ContextualSerializer {
+
+		private static final long serialVersionUID = 2870447925307262522L;
+
+		private final JsonSerializer<Object> delegate;
+		private final Map<Class<?>, JsonSerializer<Object>> contentSerializers;
+
+		/**
+		 * Creates a new {@link HalResourceSerializer} using the given default {@link BeanSerializer} for {@link Resource}.
+		 * 
+		 * @param delegate must not be {@literal null}.
+		 */
+		public HalResourceSerializer(JsonSerializer<Object> delegate) {
+
+			super(Object.class);
+
+			this.delegate = delegate;
+			this.contentSerializers = new ConcurrentHashMap<Class<?>, JsonSerializer<Object>>();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.std.StdSerializer#serialize(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serialize(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			if (provider.getActiveView() != null || !BeanSerializer.class.equals(delegate.getClass())) {
+				delegate.serialize(value, jgen, provider);
+				return;
+			}
+
+			jgen.writeStartObject();
+			jgen.setCurrentValue(value);
+
+			Iterator<PropertyWriter> writers = delegate.properties();
+
+			while (writers.hasNext()) {
+
+				PropertyWriter writer = writers.next();
+
+				try {
+
+					if (writer instanceof UnwrappingBeanPropertyWriter) {
+						writeUnwrapped((UnwrappingBeanPropertyWriter) writer, value, jgen, provider);
+					} else {
+						writer.serializeAsField(value, jgen, provider);
+					}
+
+				} catch (Exception o_O) {
+					wrapAndThrow(provider, o_O, value, writer.getName());
+				}
+			}
+
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Writes the properties of the value of the given unwrapping property directly into the current object. Hands off
+		 * to the given {@link UnwrappingBeanPropertyWriter} if the property requires type information or renames the
+		 * unwrapped properties.
+		 * 
+		 * @param writer must not be {@literal null}.
+		 * @param bean must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws Exception
+		 */
+		private void writeUnwrapped(UnwrappingBeanPropertyWriter writer, Object bean, JsonGenerator jgen,
+				SerializerProvider provider) throws Exception {
+
+			if (writer.getTypeSerializer() != null || hasNameTransformer(writer, provider)) {
+				writer.serializeAsField(bean, jgen, provider);
+				return;
+			}
+
+			Object content = writer.get(bean);
+
+			if (content == null) {
+				return;
+			}
+
+			JsonSerializer<Object> serializer = contentSerializers.get(content.getClass());
+
+			if (serializer == null) {
+
+				serializer = provider.findValueSerializer(content.getClass(), writer).unwrappingSerializer(NameTransformer.NOP);
+				contentSerializers.put(content.getClass(), serializer);
+			}
+
+			// Content not rendered as object gets written as nested property by the default writer
+			if (!serializer.isUnwrappingSerializer()) {
+				writer.serializeAsField(bean, jgen, provider);
+				return;
+			}
+
+			serializer.serialize(content, jgen, provider);
+		}
+
+		private static boolean hasNameTransformer(UnwrappingBeanPropertyWriter writer, SerializerProvider provider) {
+
+			AnnotationIntrospector introspector = provider.getAnnotationIntrospector();
+
+			if (introspector == null || writer.getMember() == null) {
+				return false;
+			}
+
+			NameTransformer transformer = introspector.findUnwrappingNameTransformer(writer.getMember());
+
+			return transformer != null && transformer != NameTransformer.NOP;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#serializeWithType(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.jsontype.TypeSerializer)
+		 */
+		@Override
+		public void serializeWithType(Object value, JsonGenerator jgen, SerializerProvider provider,
+				TypeSerializer typeSer) throws IOException {
+			delegate.serializeWithType(value, jgen, provider, typeSer);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.ResolvableSerializer#resolve(com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void resolve(SerializerProvider provider) throws JsonMappingException {
+
+			if (delegate instanceof ResolvableSerializer) {
+				((ResolvableSerializer) delegate).resolve(provider);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.ContextualSerializer#createContextual(com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.BeanProperty)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+				throws JsonMappingException {
+
+			if (!(delegate instanceof ContextualSerializer)) {
+				return this;
+			}
+
+			JsonSerializer<?> contextual = ((ContextualSerializer) delegate).createContextual(provider, property);
+
+			return contextual == delegate ? this : new HalResourceSerializer((JsonSerializer<Object>) contextual);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#unwrappingSerializer(com.fasterxml.jackson.databind.util.NameTransformer)
+		 */
+		@Override
+		public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+			return delegate.unwrappingSerializer(unwrapper);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#usesObjectId()
+		 */
+		@Override
+		public boolean usesObjectId() {
+			return delegate.usesObjectId();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#properties()
+		 */
+		@Override
+		public Iterator<PropertyWriter> properties() {
+			return delegate.properties();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.std.StdSerializer#acceptJsonFormatVisitor(com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper, com.fasterxml.jackson.databind.JavaType)
+		 */
+		@Override
+		public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
+				throws JsonMappingException {
+			delegate.acceptJsonFormatVisitor(visitor, typeHint);
+		}
+	}
+
 	static class HalLink {
 
 		private final Link link;
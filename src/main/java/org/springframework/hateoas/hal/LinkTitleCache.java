@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.core.SpringProperties;
+
+/**
+ * Caches the titles of link relations resolved through a {@link MessageSourceAccessor} per {@link Locale}. Relations
+ * without a title are cached as well, so that the {@link MessageSourceAccessor} is consulted only once per relation and
+ * {@link Locale}. The cache holds at most {@value #MAX_LOCALES} {@link Locale}s with {@value #MAX_TITLES} relations
+ * each, titles beyond that are resolved on every call. Caching can be disabled for message sources reloading their
+ * messages, see {@link Jackson2HalModule#DISABLE_LINK_TITLE_CACHE_PROPERTY}.
+ *
+ * @author agent
+ * @since 0.24
+ */
+class LinkTitleCache {
+
+	private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+	private static final String NO_TITLE = new String();
+	static final int MAX_LOCALES = 32;
+	static final int MAX_TITLES = 256;
+
+	private final MessageSourceAccessor accessor;
+	private final boolean cacheTitles;
+	private final ConcurrentMap<Locale, ConcurrentMap<String, String>> titles;
+
+	/**
+	 * Creates a new {@link LinkTitleCache} for the given {@link MessageSourceAccessor}, caching titles unless the
+	 * {@value Jackson2HalModule#DISABLE_LINK_TITLE_CACHE_PROPERTY} Spring property is set to {@literal true}.
+	 *
+	 * @param accessor can be {@literal null}.
+	 */
+	public LinkTitleCache(MessageSourceAccessor accessor) {
+		this(accessor, !SpringProperties.getFlag(Jackson2HalModule.DISABLE_LINK_TITLE_CACHE_PROPERTY));
+	}
+
+	/**
+	 * Creates a new {@link LinkTitleCache} for the given {@link MessageSourceAccessor}.
+	 *
+	 * @param accessor can be {@literal null}.
+	 * @param cacheTitles whether to cache titles at all, disable for message sources reloading their messages.
+	 */
+	public LinkTitleCache(MessageSourceAccessor accessor, boolean cacheTitles) {
+
+		this.accessor = accessor;
+		this.cacheTitles = cacheTitles;
+		this.titles = new ConcurrentHashMap<Locale, ConcurrentMap<String, String>>();
+	}
+
+	/**
+	 * Returns the title for the given link relation in the current {@link Locale}. Looks up a message for the relation as
+	 * is first and for the local part of a namespaced relation second.
+	 *
+	 * @param rel must not be {@literal null}.
+	 * @return the title or {@literal null} if none defined.
+	 */
+	public String getTitle(String rel) {
+
+		if (accessor == null) {
+			return null;
+		}
+
+		Locale locale = LocaleContextHolder.getLocale();
+		ConcurrentMap<String, String> cache = cacheTitles ? getCache(locale) : null;
+
+		if (cache == null) {
+			return resolveTitle(rel, locale);
+		}
+
+		String title = cache.get(rel);
+
+		if (title == null) {
+
+			title = resolveTitle(rel, locale);
+			title = title == null ? NO_TITLE : title;
+
+			if (cache.size() < MAX_TITLES) {
+				cache.putIfAbsent(rel, title);
+			}
+		}
+
+		return title == NO_TITLE ? null : title;
+	}
+
+	/**
+	 * Resolves and caches the titles of the given link relations in the given {@link Locale} upfront, so that rendering
+	 * them doesn't have to.
+	 *
+	 * @param rels must not be {@literal null}.
+	 * @param locale must not be {@literal null}.
+	 */
+	public void prefill(Iterable<String> rels, Locale locale) {
+
+		ConcurrentMap<String, String> cache = accessor != null && cacheTitles ? getCache(locale) : null;
+
+		if (cache == null) {
+			return;
+		}
+
+		for (String rel : rels) {
+
+			if (cache.size() >= MAX_TITLES) {
+				return;
+			}
+
+			String title = resolveTitle(rel, locale);
+			cache.putIfAbsent(rel, title == null ? NO_TITLE : title);
+		}
+	}
+
+	/**
+	 * Drops all cached titles, e.g. after the messages backing them have changed.
+	 */
+	public void clear() {
+		titles.clear();
+	}
+
+	/**
+	 * Returns the cache for the given {@link Locale} or {@literal null} if the maximum number of cached {@link Locale}s
+	 * has been reached.
+	 *
+	 * @param locale must not be {@literal null}.
+	 * @return
+	 */
+	private ConcurrentMap<String, String> getCache(Locale locale) {
+
+		ConcurrentMap<String, String> cache = titles.get(locale);
+
+		if (cache != null) {
+			return cache;
+		}
+
+		if (titles.size() >= MAX_LOCALES) {
+			return null;
+		}
+
+		cache = new ConcurrentHashMap<String, String>();
+		ConcurrentMap<String, String> existing = titles.putIfAbsent(locale, cache);
+
+		return existing == null ? cache : existing;
+	}
+
+	private String resolveTitle(String rel, Locale locale) {
+
+		String title = lookupTitle(rel, locale);
+		int separator = rel.indexOf(':');
+
+		if (title != null || separator == -1 || separator == rel.length() - 1) {
+			return title;
+		}
+
+		return lookupTitle(rel.substring(separator + 1), locale);
+	}
+
+	private String lookupTitle(String rel, Locale locale) {
+
+		try {
+			// Using a null default message prevents the message source from throwing an exception for unknown codes
+			return accessor.getMessage(String.format(RELATION_MESSAGE_TEMPLATE, rel), (String) null, locale);
+		} catch (NoSuchMessageException o_O) {
+			return null;
+		}
+	}
+}
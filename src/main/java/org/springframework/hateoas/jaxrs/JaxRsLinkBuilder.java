@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.jaxrs;
 
+import java.util.List;
 import java.util.Map;
 
 import javax.ws.rs.Path;
@@ -50,6 +51,16 @@ public class JaxRsLinkBuilder extends LinkBuilderSupport<JaxRsLinkBuilder> {
 		super(builder);
 	}
 
+	/**
+	 * Creates a new {@link JaxRsLinkBuilder} from the given {@link UriComponents} and already encoded path segments.
+	 * 
+	 * @param uriComponents must not be {@literal null}.
+	 * @param pathSegments must not be {@literal null}.
+	 */
+	private JaxRsLinkBuilder(UriComponents uriComponents, List<String> pathSegments) {
+		super(uriComponents, pathSegments);
+	}
+
 	/**
 	 * Creates a {@link JaxRsLinkBuilder} instance to link to the {@link Path} mapping tied to the given class.
 	 * 
@@ -120,6 +131,15 @@ public class JaxRsLinkBuilder extends LinkBuilderSupport<JaxRsLinkBuilder> {
 		return new JaxRsLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List)
+	 */
+	@Override
+	protected JaxRsLinkBuilder createNewInstance(UriComponents uriComponents, List<String> pathSegments) {
+		return new JaxRsLinkBuilder(uriComponents, pathSegments);
+	}
+
 	private static class CustomUriTemplateHandler extends DefaultUriTemplateHandler {
 
 		public CustomUriTemplateHandler() {
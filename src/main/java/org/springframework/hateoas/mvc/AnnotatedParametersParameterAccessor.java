@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,17 +21,24 @@ import lombok.RequiredArgsConstructor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import org.springframework.core.MethodParameter;
-import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.core.AnnotationAttribute;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.StringUtils;
@@ -49,6 +56,8 @@ class AnnotatedParametersParameterAccessor {
 			16, ReferenceType.WEAK);
 
 	private final @NonNull AnnotationAttribute attribute;
+	private final Map<Method, List<MethodParameterBinding>> bindings = new ConcurrentReferenceHashMap<Method, List<MethodParameterBinding>>(
+			16, ReferenceType.WEAK);
 
 	/**
 	 * Returns {@link BoundMethodParameter}s contained in the given {@link MethodInvocation}.
@@ -60,17 +69,66 @@ class AnnotatedParametersParameterAccessor {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		MethodParameters parameters = getOrCreateMethodParametersFor(invocation.getMethod());
-		Object[] arguments = invocation.getArguments();
-		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>();
+		return getBoundParameters(getBindings(invocation.getMethod()), invocation.getArguments());
+	}
+
+	/**
+	 * Returns the {@link MethodParameterBinding}s for all {@link MethodParameter}s of the given {@link Method} carrying
+	 * the configured annotation. The result can be held on to and bound to invocation arguments via
+	 * {@link #getBoundParameters(List, Object[])} later on.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	List<MethodParameterBinding> getBindings(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		List<MethodParameterBinding> result = bindings.get(method);
+
+		if (result != null) {
+			return result;
+		}
+
+		List<MethodParameter> parameters = getOrCreateMethodParametersFor(method)
+				.getParametersWith(attribute.getAnnotationType());
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+		result = new ArrayList<MethodParameterBinding>(parameters.size());
 
-			Object value = arguments[parameter.getParameterIndex()];
-			Object verifiedValue = verifyParameterValue(parameter, value);
+		for (MethodParameter parameter : parameters) {
+			result.add(createBinding(parameter, getVariableName(parameter)));
+		}
+
+		result = Collections.unmodifiableList(result);
+		bindings.put(method, result);
+
+		return result;
+	}
+
+	/**
+	 * Returns {@link BoundMethodParameter}s for the given, previously looked up {@link MethodParameterBinding}s and
+	 * invocation arguments.
+	 * 
+	 * @param bindings must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @see #getBindings(Method)
+	 */
+	List<BoundMethodParameter> getBoundParameters(List<MethodParameterBinding> bindings, Object[] arguments) {
+
+		if (bindings.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>(bindings.size());
+
+		for (MethodParameterBinding binding : bindings) {
+
+			Object value = arguments[binding.getParameter().getParameterIndex()];
+			Object verifiedValue = value == null ? binding.getNullValue() : value;
 
 			if (verifiedValue != null) {
-				result.add(createParameter(parameter, verifiedValue, attribute));
+				result.add(new BoundMethodParameter(binding, verifiedValue));
 			}
 		}
 
@@ -78,29 +136,30 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Create the {@link BoundMethodParameter} for the given {@link MethodParameter}, parameter value and
-	 * {@link AnnotationAttribute}.
+	 * Creates the {@link MethodParameterBinding} for the given {@link MethodParameter}. Default implementation considers
+	 * the parameter required and doesn't bind {@literal null} values.
 	 * 
-	 * @param parameter must not be {@literal null}.
-	 * @param value can be {@literal null}.
-	 * @param attribute must not be {@literal null}.
+	 * @param parameter will never be {@literal null}.
+	 * @param variableName will never be {@literal null}.
 	 * @return
 	 */
-	protected BoundMethodParameter createParameter(MethodParameter parameter, Object value,
-			AnnotationAttribute attribute) {
-		return new BoundMethodParameter(parameter, value, attribute);
+	protected MethodParameterBinding createBinding(MethodParameter parameter, String variableName) {
+		return new MethodParameterBinding(parameter, variableName, true, null, null);
 	}
 
 	/**
-	 * Callback to verifiy the parameter values given for a dummy invocation. Default implementation rejects
-	 * {@literal null} values as they indicate an invalid dummy call.
+	 * Returns the name of the {@link UriTemplate} variable to be bound. The name will be derived from the configured
+	 * {@link AnnotationAttribute} or the {@link MethodParameter} name as fallback.
 	 * 
-	 * @param parameter will never be {@literal null}.
-	 * @param value could be {@literal null}.
-	 * @return the verified value.
+	 * @param parameter must not be {@literal null}.
+	 * @return
 	 */
-	protected Object verifyParameterValue(MethodParameter parameter, Object value) {
-		return value;
+	private String getVariableName(MethodParameter parameter) {
+
+		Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
+		String annotationAttributeValue = attribute.getValueFrom(annotation);
+
+		return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
 	}
 
 	/**
@@ -124,35 +183,130 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
+	 * Immutable metadata to bind invocation arguments to a {@link MethodParameter}, resolved once per parameter. Contains
+	 * the name of the template variable to bind to, whether the parameter is required, its default value and the
+	 * converter to render arguments into {@link String}s.
 	 * 
-	 * @author Oliver Gierke
+	 * @author agent
+	 * @since 0.24
 	 */
-	static class BoundMethodParameter {
+	static class MethodParameterBinding {
 
-		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
+		private static final ConverterLookup CONVERTERS = new ConverterLookup();
 		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
+		private static final Set<Class<?>> TO_STRING_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(String.class,
+				Long.class, Integer.class, Short.class, Byte.class, Boolean.class, UUID.class));
 
 		private final MethodParameter parameter;
+		private final String variableName;
+		private final boolean required;
+		private final String defaultValue;
+		private final Object nullValue;
+		private final TypeDescriptor typeDescriptor;
+		private final GenericConverter converter;
+		private final boolean toStringConversion;
+
+		/**
+		 * Creates a new {@link MethodParameterBinding}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param variableName must not be {@literal null} or empty.
+		 * @param required whether a value is required for the parameter.
+		 * @param defaultValue the default value of the parameter, {@literal null} if none.
+		 * @param nullValue the value to bind if {@literal null} is given for the parameter, {@literal null} to not bind it
+		 *          at all.
+		 */
+		public MethodParameterBinding(MethodParameter parameter, String variableName, boolean required,
+				String defaultValue, Object nullValue) {
+
+			Assert.notNull(parameter, "MethodParameter must not be null!");
+
+			this.parameter = parameter;
+			this.variableName = variableName;
+			this.required = required;
+			this.defaultValue = defaultValue;
+			this.nullValue = nullValue;
+			this.typeDescriptor = TypeDescriptor.nested(parameter, 0);
+			this.converter = CONVERTERS.getConverter(typeDescriptor);
+
+			// Only use toString() if no parameter annotation selects a dedicated converter
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(parameter.getParameterType());
+			this.toStringConversion = TO_STRING_TYPES.contains(type)
+					&& converter == CONVERTERS.getConverter(TypeDescriptor.valueOf(type));
+		}
+
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		public String getVariableName() {
+			return variableName;
+		}
+
+		public boolean isRequired() {
+			return required;
+		}
+
+		public String getDefaultValue() {
+			return defaultValue;
+		}
+
+		public Object getNullValue() {
+			return nullValue;
+		}
+
+		/**
+		 * Converts the given value into a {@link String} based on the default conversion service setup.
+		 * 
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		public String asString(Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			if (toStringConversion) {
+				return value.toString();
+			}
+
+			if (converter == null) {
+				return (String) CONVERTERS.convert(value, typeDescriptor, STRING_DESCRIPTOR);
+			}
+
+			try {
+				return (String) converter.convert(value, typeDescriptor, STRING_DESCRIPTOR);
+			} catch (ConversionFailedException o_O) {
+				throw o_O;
+			} catch (RuntimeException o_O) {
+				throw new ConversionFailedException(typeDescriptor, STRING_DESCRIPTOR, value, o_O);
+			}
+		}
+	}
+
+	/**
+	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class BoundMethodParameter {
+
+		private final MethodParameterBinding binding;
 		private final Object value;
-		private final AnnotationAttribute attribute;
-		private final TypeDescriptor parameterTypeDecsriptor;
 
 		/**
 		 * Creates a new {@link BoundMethodParameter}
 		 * 
-		 * @param parameter
+		 * @param binding must not be {@literal null}.
 		 * @param value
-		 * @param attribute
 		 */
-		public BoundMethodParameter(MethodParameter parameter, Object value, AnnotationAttribute attribute) {
+		public BoundMethodParameter(MethodParameterBinding binding, Object value) {
 
-			Assert.notNull(parameter, "MethodParameter must not be null!");
+			Assert.notNull(binding, "MethodParameterBinding must not be null!");
 
-			this.parameter = parameter;
+			this.binding = binding;
 			this.value = value;
-			this.attribute = attribute;
-			this.parameterTypeDecsriptor = TypeDescriptor.nested(parameter, 0);
 		}
 
 		/**
@@ -162,15 +316,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String getVariableName() {
-
-			if (attribute == null) {
-				return parameter.getParameterName();
-			}
-
-			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
-			String annotationAttributeValue = attribute.getValueFrom(annotation);
-
-			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+			return binding.getVariableName();
 		}
 
 		/**
@@ -188,8 +334,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String asString() {
-			return value == null ? null
-					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDecsriptor, STRING_DESCRIPTOR);
+			return binding.asString(value);
 		}
 
 		/**
@@ -198,7 +343,19 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public boolean isRequired() {
-			return true;
+			return binding.isRequired();
+		}
+	}
+
+	/**
+	 * {@link DefaultFormattingConversionService} exposing the lookup of the {@link GenericConverter} for a source type.
+	 * 
+	 * @author agent
+	 */
+	private static class ConverterLookup extends DefaultFormattingConversionService {
+
+		public GenericConverter getConverter(TypeDescriptor sourceType) {
+			return getConverter(sourceType, MethodParameterBinding.STRING_DESCRIPTOR);
 		}
 	}
 }
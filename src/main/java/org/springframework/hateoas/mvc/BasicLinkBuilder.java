@@ -15,9 +15,12 @@
  */
 package org.springframework.hateoas.mvc;
 
+import java.util.List;
+
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -36,6 +39,16 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		super(builder);
 	}
 
+	/**
+	 * Creates a new {@link BasicLinkBuilder} using the given {@link UriComponents} and already encoded path segments.
+	 * 
+	 * @param uriComponents must not be {@literal null}.
+	 * @param pathSegments must not be {@literal null}.
+	 */
+	private BasicLinkBuilder(UriComponents uriComponents, List<String> pathSegments) {
+		super(uriComponents, pathSegments);
+	}
+
 	/**
 	 * Creates a new {@link BasicLinkBuilder} to link to the current servlet mapping.
 	 * 
@@ -54,6 +67,15 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		return new BasicLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List)
+	 */
+	@Override
+	protected BasicLinkBuilder createNewInstance(UriComponents uriComponents, List<String> pathSegments) {
+		return new BasicLinkBuilder(uriComponents, pathSegments);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.mvc.LinkBuilderSupport#getThis()
@@ -18,10 +18,12 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.util.StringUtils.*;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.experimental.Delegate;
 
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
@@ -34,6 +36,7 @@ import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -61,6 +64,7 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 			new AnnotationMappingDiscoverer(RequestMapping.class));
 	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
 	private static final CustomUriTemplateHandler HANDLER = new CustomUriTemplateHandler();
+	private static final String BASE_URI_ATTRIBUTE = ControllerLinkBuilder.class.getName().concat(".BASE_URI");
 
 	private final TemplateVariables variables;
 
@@ -92,6 +96,19 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		this.variables = variables;
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} using the given {@link UriComponents} and already encoded path segments.
+	 * 
+	 * @param uriComponents must not be {@literal null}.
+	 * @param pathSegments must not be {@literal null}.
+	 */
+	ControllerLinkBuilder(UriComponents uriComponents, List<String> pathSegments) {
+
+		super(uriComponents, pathSegments);
+
+		this.variables = TemplateVariables.NONE;
+	}
+
 	/**
 	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class.
 	 * 
@@ -193,6 +210,31 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the given controller method as if it was invoked with the given
+	 * arguments. Arguments are bound to path variables and request parameters exactly like they are for
+	 * {@link #linkTo(Object)} but no proxy has to be created to record the invocation.
+	 * 
+	 * <pre>
+	 * private static final Method SHOW_ADDRESSES = ReflectionUtils.findMethod(CustomerController.class, "showAddresses", Long.class);
+	 * 
+	 * Link link = linkToMethod(CustomerController.class, SHOW_ADDRESSES, 2L).withRel("addresses");
+	 * </pre>
+	 * 
+	 * Other than {@link #linkTo(Class, Method, Object...)}, which expands the mapping with the given parameters in
+	 * order, this considers the parameter annotations of the method.
+	 * 
+	 * @param controller the controller type the method is invoked on, must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the method arguments, must not be {@literal null}.
+	 * @return
+	 * @see DummyInvocationUtils#invocationOf(Class, Method, Object[], Object...)
+	 * @since 0.24
+	 */
+	public static ControllerLinkBuilder linkToMethod(Class<?> controller, Method method, Object... arguments) {
+		return FACTORY.linkTo(DummyInvocationUtils.invocationOf(controller, method, arguments));
+	}
+
 	/**
 	 * Wrapper for {@link DummyInvocationUtils#methodOn(Class, Object...)} to be available in case you work with static
 	 * imports of {@link ControllerLinkBuilder}.
@@ -223,6 +265,15 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return new ControllerLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List)
+	 */
+	@Override
+	protected ControllerLinkBuilder createNewInstance(UriComponents uriComponents, List<String> pathSegments) {
+		return new ControllerLinkBuilder(uriComponents, pathSegments);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 * 
@@ -253,16 +304,56 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return parts[0].concat(variables.toString()).concat("#").concat(parts[0]);
 	}
 
+	/**
+	 * Eagerly populates the caches used to build links to the given controller method, no matter whether they're
+	 * created via a dummy method invocation, a {@link Method} handle or the controller type only.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	static void prepareLinksTo(Class<?> controller, Method method) {
+
+		DISCOVERER.getMappingAsUriTemplate(controller, method);
+
+		ControllerLinkBuilderFactory.prepareLinksTo(controller, method);
+		DummyInvocationUtils.prepareProxyClass(controller);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
 	 * request contains an {@code X-Forwarded-Ssl} header, which is not (yet) supported by the underlying
-	 * {@link UriComponentsBuilder}.
+	 * {@link UriComponentsBuilder}. The base URI is only calculated once per request and cached as request attribute.
 	 * 
 	 * @return
 	 */
 	static UriComponentsBuilder getBuilder() {
+		return UriComponentsBuilder.newInstance().uriComponents(getBaseUri());
+	}
+
+	/**
+	 * Returns the base URI for the current request, i.e. the {@link UriComponents} obtained from the current servlet
+	 * mapping with forwarded headers applied. The result is cached in a request attribute and reused for subsequent
+	 * invocations as long as the request is still dispatched to the same URI.
+	 * 
+	 * @return
+	 */
+	private static UriComponents getBaseUri() {
 
 		HttpServletRequest request = getCurrentRequest();
+		Object attribute = request.getAttribute(BASE_URI_ATTRIBUTE);
+
+		if (attribute instanceof CachedBaseUri && ((CachedBaseUri) attribute).isFor(request)) {
+			return ((CachedBaseUri) attribute).getUri();
+		}
+
+		UriComponents uri = createBuilder(request).build();
+		request.setAttribute(BASE_URI_ATTRIBUTE, new CachedBaseUri(request, uri));
+
+		return uri;
+	}
+
+	private static UriComponentsBuilder createBuilder(HttpServletRequest request) {
+
 		UriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
 
 		// special case handling for X-Forwarded-Ssl:
@@ -295,6 +386,31 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return servletRequest;
 	}
 
+	/**
+	 * Base URI calculated for a request alongside the request and servlet path it was calculated for, so that it's not
+	 * accidentally reused after the request was forwarded.
+	 * 
+	 * @author agent
+	 */
+	@Value
+	private static class CachedBaseUri {
+
+		String requestUri, servletPath;
+		UriComponents uri;
+
+		public CachedBaseUri(HttpServletRequest request, UriComponents uri) {
+
+			this.requestUri = request.getRequestURI();
+			this.servletPath = request.getServletPath();
+			this.uri = uri;
+		}
+
+		public boolean isFor(HttpServletRequest request) {
+			return ObjectUtils.nullSafeEquals(requestUri, request.getRequestURI())
+					&& ObjectUtils.nullSafeEquals(servletPath, request.getServletPath());
+		}
+	}
+
 	@RequiredArgsConstructor
 	private static class CachingAnnotationMappingDiscoverer implements MappingDiscoverer {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,14 @@
 package org.springframework.hateoas.mvc;
 
 import static org.springframework.hateoas.TemplateVariable.VariableType.*;
-import static org.springframework.hateoas.TemplateVariables.*;
 import static org.springframework.hateoas.core.EncodingUtils.*;
 import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
 
+import lombok.Getter;
+import lombok.Value;
+
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,13 +38,16 @@ import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AnnotationAttribute;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.MethodParameterBinding;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -71,8 +75,10 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
 			new AnnotationAttribute(PathVariable.class));
 	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
+	private static final Map<LinkPlanKey, LinkPlan> LINK_PLANS = new ConcurrentReferenceHashMap<LinkPlanKey, LinkPlan>();
 
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<UriComponentsContributor>();
+	private final Map<Method, List<ParameterContributors>> contributors = new ConcurrentReferenceHashMap<Method, List<ParameterContributors>>();
 
 	/**
 	 * Configures the {@link UriComponentsContributor} to be used when building {@link Link} instances from method
@@ -83,6 +89,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.contributors.clear();
 	}
 
 	/*
@@ -133,26 +140,31 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 
 		MethodInvocation invocation = invocations.getLastInvocation();
 		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
 
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		Assert.state(invocation != null, "No method invocation recorded! Did you invoke a method on the proxy?");
+		DummyInvocationUtils.consumeInvocation(invocationValue);
+		Object[] arguments = invocation.getArguments();
+
+		LinkPlan plan = getOrCreateLinkPlan(invocation.getTargetType(), invocation.getMethod());
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(plan.getMapping());
 
-		UriTemplate template = new UriTemplate(mapping);
-		Map<String, Object> values = new HashMap<String, Object>();
-		Iterator<String> names = template.getVariableNames().iterator();
+		List<String> variableNames = plan.getVariableNames();
+		Map<String, Object> values = new HashMap<String, Object>(variableNames.size() * 2);
+		Iterator<String> names = variableNames.iterator();
 
 		while (classMappingParameters.hasNext()) {
 			values.put(names.next(), encodePath(classMappingParameters.next()));
 		}
 
-		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(invocation)) {
+		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(plan.getPathVariables(),
+				arguments)) {
 			values.put(parameter.getVariableName(), encodePath(parameter.asString()));
 		}
 
 		List<String> optionalEmptyParameters = new ArrayList<String>();
 
-		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
+		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(plan.getRequestParameters(),
+				arguments)) {
 
 			bindRequestParameters(builder, parameter);
 
@@ -166,24 +178,39 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			}
 		}
 
-		for (String variable : template.getVariableNames()) {
-			if (!values.containsKey(variable)) {
-				values.put(variable, SKIP_VALUE);
-			}
-		}
+		return createBuilder(applyUriComponentsContributer(builder, invocation), variableNames, values,
+				optionalEmptyParameters);
+	}
 
-		UriComponents components = applyUriComponentsContributer(builder, invocation).buildAndExpand(values);
-		TemplateVariables variables = NONE;
+	/**
+	 * Creates a {@link ControllerLinkBuilder} by expanding the given {@link ControllerLinkTemplate} with the given
+	 * arguments. Templates only bind path variables and request parameters, so they can't be used for controller methods
+	 * any of the configured {@link UriComponentsContributor}s applies to.
+	 * 
+	 * @param template must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case a configured {@link UriComponentsContributor} supports a parameter of the
+	 *           template's controller method or the template doesn't declare its method while contributors are
+	 *           configured.
+	 * @see ControllerLinkTemplate#expand(Object...)
+	 * @since 0.24
+	 */
+	public ControllerLinkBuilder linkTo(ControllerLinkTemplate template, Object... arguments) {
 
-		for (String parameter : optionalEmptyParameters) {
+		Assert.notNull(template, "ControllerLinkTemplate must not be null!");
 
-			boolean previousRequestParameter = components.getQueryParams().isEmpty() && variables.equals(NONE);
-			TemplateVariable variable = new TemplateVariable(parameter,
-					previousRequestParameter ? REQUEST_PARAM : REQUEST_PARAM_CONTINUED);
-			variables = variables.concat(variable);
+		if (!uriComponentsContributors.isEmpty()) {
+
+			Method method = template.getMethod();
+
+			Assert.state(method != null,
+					"ControllerLinkTemplate doesn't declare its controller method, so UriComponentsContributors can't be considered!");
+			Assert.state(getOrCreateContributors(method).isEmpty(), String.format(
+					"UriComponentsContributors apply to parameters of %s! Use linkTo(methodOn(…)) instead.", method));
 		}
 
-		return new ControllerLinkBuilder(components, variables);
+		return template.expand(arguments);
 	}
 
 	/* 
@@ -195,6 +222,41 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		return ControllerLinkBuilder.linkTo(method, parameters);
 	}
 
+	/**
+	 * Creates the {@link ControllerLinkBuilder} for the given {@link UriComponentsBuilder} already populated with the
+	 * mapping and request parameters. Template variables not contained in the given values are left unexpanded and the
+	 * given optional request parameters, that no value was provided for, are added as template variables.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param variableNames the names of the template variables contained in the mapping, must not be {@literal null}.
+	 * @param values the already encoded values for template variables, must not be {@literal null}.
+	 * @param optionalEmptyParameters the names of optional request parameters without a value, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	static ControllerLinkBuilder createBuilder(UriComponentsBuilder builder, List<String> variableNames,
+			Map<String, Object> values, List<String> optionalEmptyParameters) {
+
+		for (String variable : variableNames) {
+			if (!values.containsKey(variable)) {
+				values.put(variable, SKIP_VALUE);
+			}
+		}
+
+		UriComponents components = builder.buildAndExpand(values);
+		TemplateVariables.Builder variables = TemplateVariables.builder();
+
+		for (String parameter : optionalEmptyParameters) {
+
+			boolean previousRequestParameter = components.getQueryParams().isEmpty() && variables.isEmpty();
+			TemplateVariable variable = new TemplateVariable(parameter,
+					previousRequestParameter ? REQUEST_PARAM : REQUEST_PARAM_CONTINUED);
+			variables.add(variable);
+		}
+
+		return new ControllerLinkBuilder(components, variables.build());
+	}
+
 	/**
 	 * Applies the configured {@link UriComponentsContributor}s to the given {@link UriComponentsBuilder}.
 	 * 
@@ -205,19 +267,94 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
 			MethodInvocation invocation) {
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+		if (uriComponentsContributors.isEmpty()) {
+			return builder;
+		}
+
+		Object[] arguments = invocation.getArguments();
+
+		for (ParameterContributors parameterContributors : getOrCreateContributors(invocation.getMethod())) {
+
+			MethodParameter parameter = parameterContributors.getParameter();
+			Object argument = arguments[parameter.getParameterIndex()];
+
+			for (UriComponentsContributor contributor : parameterContributors.getContributors()) {
+				contributor.enhance(builder, parameter, argument);
+			}
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Returns the {@link ParameterContributors} for all parameters of the given {@link Method} that at least one of the
+	 * configured {@link UriComponentsContributor}s supports, resolving and caching them on first access.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private List<ParameterContributors> getOrCreateContributors(Method method) {
+
+		List<ParameterContributors> result = contributors.get(method);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = new ArrayList<ParameterContributors>();
+
+		for (MethodParameter parameter : new MethodParameters(method).getParameters()) {
+
+			List<UriComponentsContributor> supporting = new ArrayList<UriComponentsContributor>();
 
-		for (MethodParameter parameter : parameters.getParameters()) {
-			Object parameterValue = parameterValues.next();
 			for (UriComponentsContributor contributor : uriComponentsContributors) {
 				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
+					supporting.add(contributor);
 				}
 			}
+
+			if (!supporting.isEmpty()) {
+				result.add(new ParameterContributors(parameter, supporting));
+			}
 		}
 
-		return builder;
+		result = result.isEmpty() ? Collections.<ParameterContributors> emptyList() : result;
+		contributors.put(method, result);
+
+		return result;
+	}
+
+	/**
+	 * Eagerly creates the metadata needed to build links to the given controller method via {@link #linkTo(Object)}.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	static void prepareLinksTo(Class<?> type, Method method) {
+		getOrCreateLinkPlan(type, method);
+	}
+
+	/**
+	 * Returns the {@link LinkPlan} for the given controller type and {@link Method}, resolving and caching it on first
+	 * access.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private static LinkPlan getOrCreateLinkPlan(Class<?> type, Method method) {
+
+		LinkPlanKey key = new LinkPlanKey(type, method);
+		LinkPlan plan = LINK_PLANS.get(key);
+
+		if (plan != null) {
+			return plan;
+		}
+
+		plan = new LinkPlan(type, method);
+		LINK_PLANS.put(key, plan);
+
+		return plan;
 	}
 
 	/**
@@ -269,64 +406,88 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	}
 
 	/**
-	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
-	 * values handed in for optional request parameters.
+	 * A {@link MethodParameter} alongside the {@link UriComponentsContributor}s supporting it.
 	 * 
-	 * @author Oliver Gierke
+	 * @author agent
 	 */
-	private static class RequestParamParameterAccessor extends AnnotatedParametersParameterAccessor {
+	@Value
+	private static class ParameterContributors {
 
-		public RequestParamParameterAccessor() {
-			super(new AnnotationAttribute(RequestParam.class));
-		}
+		MethodParameter parameter;
+		List<UriComponentsContributor> contributors;
+	}
 
-		/* 
-		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createParameter(org.springframework.core.MethodParameter, java.lang.Object, org.springframework.hateoas.core.AnnotationAttribute)
-		 */
-		@Override
-		protected BoundMethodParameter createParameter(final MethodParameter parameter, Object value,
-				AnnotationAttribute attribute) {
+	/**
+	 * Cache key for {@link LinkPlan}s. The controller type has to be considered alongside the method as methods declared
+	 * on a parent type are exposed under the mapping of the invoked sub-type.
+	 * 
+	 * @author agent
+	 */
+	@Value
+	private static class LinkPlanKey {
 
-			return new BoundMethodParameter(parameter, value, attribute) {
+		Class<?> type;
+		Method method;
+	}
 
-				/* 
-				 * (non-Javadoc)
-				 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter#isRequired()
-				 */
-				@Override
-				public boolean isRequired() {
+	/**
+	 * Immutable, pre-resolved information needed to build a link to a controller method: the resolved mapping, the
+	 * template variables contained in it as well as the method parameters to bind path variables and request parameters
+	 * from. Building a link then only requires binding the actual invocation arguments.
+	 * 
+	 * @author agent
+	 */
+	@Getter
+	private static class LinkPlan {
+
+		private final String mapping;
+		private final List<String> variableNames;
+		private final List<MethodParameterBinding> pathVariables;
+		private final List<MethodParameterBinding> requestParameters;
+
+		/**
+		 * Creates a new {@link LinkPlan} for the given controller type and {@link Method}.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param method must not be {@literal null}.
+		 */
+		public LinkPlan(Class<?> type, Method method) {
 
-					RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+			this.mapping = DISCOVERER.getMapping(type, method);
+			this.variableNames = Collections.unmodifiableList(new UriTemplate(mapping).getVariableNames());
+			this.pathVariables = PATH_VARIABLE_ACCESSOR.getBindings(method);
+			this.requestParameters = REQUEST_PARAM_ACCESSOR.getBindings(method);
+		}
+	}
 
-					if (parameter.getParameterType().getName().equals("java.lang.Optional")) {
-						return false;
-					}
+	/**
+	 * Custom extension of {@link AnnotatedParametersParameterAccessor} for {@link RequestParam} to allow {@literal null}
+	 * values handed in for optional request parameters.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static class RequestParamParameterAccessor extends AnnotatedParametersParameterAccessor {
 
-					return annotation.required() //
-							&& annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE);
-				}
-			};
+		public RequestParamParameterAccessor() {
+			super(new AnnotationAttribute(RequestParam.class));
 		}
 
 		/* 
 		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#verifyParameterValue(org.springframework.core.MethodParameter, java.lang.Object)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createBinding(org.springframework.core.MethodParameter, java.lang.String)
 		 */
 		@Override
-		protected Object verifyParameterValue(MethodParameter parameter, Object value) {
+		protected MethodParameterBinding createBinding(MethodParameter parameter, String variableName) {
 
 			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+			boolean hasDefaultValue = !annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE);
+			boolean optional = parameter.getParameterType().getName().equals("java.lang.Optional");
 
-			if (value != null) {
-				return value;
-			}
-
-			if (!annotation.required()) {
-				return SKIP_VALUE;
-			}
+			boolean required = !optional && annotation.required() && !hasDefaultValue;
+			Object nullValue = !annotation.required() || !hasDefaultValue ? SKIP_VALUE : null;
 
-			return annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE) ? SKIP_VALUE : null;
+			return new MethodParameterBinding(parameter, variableName, required,
+					hasDefaultValue ? annotation.defaultValue() : null, nullValue);
 		}
 	}
 }
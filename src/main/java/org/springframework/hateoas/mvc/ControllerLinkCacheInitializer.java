@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.util.Assert;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Populates the caches used by {@link ControllerLinkBuilder} for all handler methods registered with the
+ * {@link RequestMappingHandlerMapping}s of the current {@link ListableBeanFactory} once all singletons have been
+ * instantiated, i.e. before the application starts serving requests. Handler methods the caches can't be populated for
+ * are logged and skipped, building a link to them will fail with the same error later on. Activated via
+ * {@link EnableHypermediaSupport#warmUpLinkCaches()}.
+ * 
+ * @author agent
+ * @since 0.24
+ */
+public class ControllerLinkCacheInitializer implements SmartInitializingSingleton, BeanFactoryAware {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ControllerLinkCacheInitializer.class);
+
+	private ListableBeanFactory beanFactory;
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
+	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		Assert.isInstanceOf(ListableBeanFactory.class, beanFactory, "BeanFactory must be a ListableBeanFactory!");
+
+		this.beanFactory = (ListableBeanFactory) beanFactory;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		for (RequestMappingHandlerMapping mapping : beanFactory.getBeansOfType(RequestMappingHandlerMapping.class)
+				.values()) {
+			for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+
+				try {
+					ControllerLinkBuilder.prepareLinksTo(handlerMethod.getBeanType(), handlerMethod.getMethod());
+				} catch (RuntimeException o_O) {
+					LOGGER.warn("Could not prepare links to {}!", handlerMethod, o_O);
+				}
+			}
+		}
+	}
+}
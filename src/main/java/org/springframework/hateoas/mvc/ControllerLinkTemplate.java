@@ -0,0 +1,264 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.springframework.hateoas.core.EncodingUtils.*;
+import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * Reflection-free description of a link to a controller method, consisting of the method's full mapping and the
+ * {@link PathVariable}s and {@link RequestParam}s it declares. Expanding it with argument values creates the same
+ * {@link ControllerLinkBuilder} as {@code linkTo(methodOn(…).method(…))} for arguments of {@link String}, primitive,
+ * {@link Enum} or other types rendered via {@link Object#toString()} as well as {@link Collection}s of those. Primarily
+ * used by link factories generated at build time.
+ * <p>
+ * Like {@link ControllerLinkBuilder#linkTo(Object)}, {@link #expand(Object...)} doesn't apply any
+ * {@link UriComponentsContributor}s. Use {@link ControllerLinkBuilderFactory#linkTo(ControllerLinkTemplate, Object...)}
+ * to create links in the context of a factory configured with contributors.
+ * <p>
+ * Instances are immutable and can be kept in constants.
+ *
+ * @author agent
+ * @since 0.24
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ControllerLinkTemplate {
+
+	private final String mapping;
+	private final List<String> variableNames;
+	private final List<ParameterBinding> bindings;
+	private final HandlerMethod handlerMethod;
+
+	/**
+	 * Creates a new {@link ControllerLinkTemplate} for the given, fully resolved mapping, i.e. the type level mapping
+	 * already combined with the method level one.
+	 *
+	 * @param mapping must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static ControllerLinkTemplate of(String mapping) {
+
+		Assert.hasText(mapping, "Mapping must not be null or empty!");
+
+		return new ControllerLinkTemplate(mapping,
+				Collections.unmodifiableList(new UriTemplate(mapping).getVariableNames()),
+				Collections.<ParameterBinding> emptyList(), null);
+	}
+
+	/**
+	 * Returns a new {@link ControllerLinkTemplate} declaring the controller method it was created for. The method is only
+	 * looked up if needed to verify that no {@link UriComponentsContributor} applies to it.
+	 *
+	 * @param type the controller type, must not be {@literal null}.
+	 * @param name the name of the method, must not be {@literal null} or empty.
+	 * @param parameterTypes the parameter types of the method, must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilderFactory#linkTo(ControllerLinkTemplate, Object...)
+	 */
+	public ControllerLinkTemplate method(Class<?> type, String name, Class<?>... parameterTypes) {
+		return new ControllerLinkTemplate(mapping, variableNames, bindings,
+				new HandlerMethod(type, name, parameterTypes));
+	}
+
+	/**
+	 * Returns a new {@link ControllerLinkTemplate} additionally expecting an argument for the path variable with the
+	 * given name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return
+	 */
+	public ControllerLinkTemplate pathVariable(String name) {
+		return with(new ParameterBinding(name, true, true, false));
+	}
+
+	/**
+	 * Returns a new {@link ControllerLinkTemplate} additionally expecting an argument for the request parameter with the
+	 * given name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param required the value of {@link RequestParam#required()}.
+	 * @param hasDefaultValue whether {@link RequestParam#defaultValue()} is set.
+	 * @return
+	 */
+	public ControllerLinkTemplate requestParam(String name, boolean required, boolean hasDefaultValue) {
+		return with(new ParameterBinding(name, false, required, hasDefaultValue));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} for the given arguments. They have to be given in the order the path
+	 * variables and request parameters were registered. {@literal null} values are handled like they are for dummy
+	 * method invocations, i.e. they result in template variables.
+	 *
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public ControllerLinkBuilder expand(Object... arguments) {
+
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.isTrue(arguments.length == bindings.size(),
+				String.format("Expected %s arguments but got %s!", bindings.size(), arguments.length));
+
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		Map<String, Object> values = new HashMap<String, Object>(variableNames.size() * 2);
+		List<String> optionalEmptyParameters = new ArrayList<String>();
+
+		for (int i = 0; i < arguments.length; i++) {
+
+			ParameterBinding binding = bindings.get(i);
+			Object value = arguments[i];
+
+			if (binding.pathVariable) {
+
+				if (value != null) {
+					values.put(binding.name, encodePath(asString(value)));
+				}
+
+			} else if (value instanceof Collection) {
+
+				for (Object element : (Collection<?>) value) {
+					builder.queryParam(binding.name, encodeParameter(element));
+				}
+
+			} else if (value != null) {
+
+				builder.queryParam(binding.name, encodeParameter(asString(value)));
+
+			} else if (binding.isRequired()) {
+
+				builder.queryParam(binding.name, String.format("{%s}", binding.name));
+				values.put(binding.name, SKIP_VALUE);
+
+			} else if (!binding.required) {
+
+				values.put(binding.name, SKIP_VALUE);
+				optionalEmptyParameters.add(binding.name);
+			}
+		}
+
+		return ControllerLinkBuilderFactory.createBuilder(builder, variableNames, values, optionalEmptyParameters);
+	}
+
+	private ControllerLinkTemplate with(ParameterBinding binding) {
+
+		List<ParameterBinding> bindings = new ArrayList<ParameterBinding>(this.bindings);
+		bindings.add(binding);
+
+		return new ControllerLinkTemplate(mapping, variableNames, Collections.unmodifiableList(bindings), handlerMethod);
+	}
+
+	/**
+	 * Returns the controller method declared via {@link #method(Class, String, Class...)}.
+	 *
+	 * @return the {@link Method} or {@literal null} if none declared.
+	 */
+	Method getMethod() {
+		return handlerMethod == null ? null : handlerMethod.getMethod();
+	}
+
+	/**
+	 * Renders the given value like the default conversion service does for the supported types.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private static String asString(Object value) {
+		return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+	}
+
+	/**
+	 * The controller method a {@link ControllerLinkTemplate} was created for, resolved lazily.
+	 *
+	 * @author agent
+	 */
+	private static class HandlerMethod {
+
+		private final Class<?> type;
+		private final String name;
+		private final Class<?>[] parameterTypes;
+		private volatile Method method;
+
+		public HandlerMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+
+			Assert.notNull(type, "Type must not be null!");
+			Assert.hasText(name, "Method name must not be null or empty!");
+			Assert.notNull(parameterTypes, "Parameter types must not be null!");
+
+			this.type = type;
+			this.name = name;
+			this.parameterTypes = parameterTypes.clone();
+		}
+
+		public Method getMethod() {
+
+			Method method = this.method;
+
+			if (method != null) {
+				return method;
+			}
+
+			method = ReflectionUtils.findMethod(type, name, parameterTypes);
+
+			Assert.state(method != null, String.format("Could not find method %s on %s!", name, type.getName()));
+
+			this.method = method;
+
+			return method;
+		}
+	}
+
+	/**
+	 * A path variable or request parameter to bind an argument to.
+	 *
+	 * @author agent
+	 */
+	private static class ParameterBinding {
+
+		private final String name;
+		private final boolean pathVariable, required, hasDefaultValue;
+
+		public ParameterBinding(String name, boolean pathVariable, boolean required, boolean hasDefaultValue) {
+
+			Assert.hasText(name, "Parameter name must not be null or empty!");
+
+			this.name = name;
+			this.pathVariable = pathVariable;
+			this.required = required;
+			this.hasDefaultValue = hasDefaultValue;
+		}
+
+		public boolean isRequired() {
+			return required && !hasDefaultValue;
+		}
+	}
+}
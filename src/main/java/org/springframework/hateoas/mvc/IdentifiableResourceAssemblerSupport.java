@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.List;
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.IdentifierLinkExpander;
 import org.springframework.util.Assert;
 
 /**
@@ -63,9 +64,29 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 		return createResourceWithId(entity.getId(), entity, parameters);
 	}
 
+	/**
+	 * Creates a new resource and adds a self link to it using the {@link Identifiable}'s id and the given
+	 * {@link IdentifierLinkExpander}.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param selfLinks must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 * @see #toResource(Object, IdentifierLinkExpander)
+	 */
+	protected D createResource(T entity, IdentifierLinkExpander selfLinks) {
+		return createResourceWithId(entity.getId(), entity, selfLinks);
+	}
+
 	@Override
 	protected D createResourceWithId(Object id, T entity, Object... parameters) {
 
+		IdentifierLinkExpander selfLinks = getCurrentSelfLinks(parameters);
+
+		if (selfLinks != null) {
+			return createResourceWithId(id, entity, selfLinks);
+		}
+
 		Assert.notNull(entity, "Entity must not be null!");
 		Assert.notNull(id, "Id must not be null!");
 
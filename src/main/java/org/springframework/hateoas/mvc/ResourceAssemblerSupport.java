@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.util.List;
 import org.springframework.beans.BeanUtils;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.core.IdentifierLinkExpander;
 import org.springframework.util.Assert;
 
 /**
@@ -33,8 +34,11 @@ import org.springframework.util.Assert;
  */
 public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> implements ResourceAssembler<T, D> {
 
+	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
+
 	private final Class<?> controllerClass;
 	private final Class<D> resourceType;
+	private final ThreadLocal<IdentifierLinkExpander> currentSelfLinks = new ThreadLocal<IdentifierLinkExpander>();
 
 	/**
 	 * Creates a new {@link ResourceAssemblerSupport} using the given controller class and resource type.
@@ -52,24 +56,59 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 	}
 
 	/**
-	 * Converts all given entities into resources.
+	 * Converts all given entities into resources. All self links created via {@link #createResourceWithId(Object, Object)}
+	 * and its parameterless variants while doing so share a single {@link IdentifierLinkExpander}, so that the
+	 * controller's base URI is only resolved once for all entities. This includes the default
+	 * {@code toResource(entity)} calling {@code createResource(entity)} of {@link IdentifiableResourceAssemblerSupport}.
 	 * 
-	 * @see #toResource(Object)
+	 * @see #toResource(Object, IdentifierLinkExpander)
 	 * @param entities must not be {@literal null}.
 	 * @return
 	 */
 	public List<D> toResources(Iterable<? extends T> entities) {
 
 		Assert.notNull(entities, "Entities must not be null!");
+
+		IdentifierLinkExpander selfLinks = new IdentifierLinkExpander(FACTORY, controllerClass);
+		IdentifierLinkExpander previous = currentSelfLinks.get();
 		List<D> result = new ArrayList<D>();
 
-		for (T entity : entities) {
-			result.add(toResource(entity));
+		currentSelfLinks.set(selfLinks);
+
+		try {
+
+			for (T entity : entities) {
+				result.add(toResource(entity, selfLinks));
+			}
+
+		} finally {
+
+			if (previous == null) {
+				currentSelfLinks.remove();
+			} else {
+				currentSelfLinks.set(previous);
+			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Converts the given entity into a resource while converting multiple ones via {@link #toResources(Iterable)}. The
+	 * given {@link IdentifierLinkExpander} is shared by all entities converted that way, so that self links created via
+	 * {@link #createResourceWithId(Object, Object, IdentifierLinkExpander)} resolve the controller's base URI only once.
+	 * Defaults to {@link #toResource(Object)}, which picks up the same {@link IdentifierLinkExpander} for self links
+	 * created without controller parameters anyway.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param selfLinks must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	protected D toResource(T entity, IdentifierLinkExpander selfLinks) {
+		return toResource(entity);
+	}
+
 	/**
 	 * Creates a new resource with a self link to the given id.
 	 * 
@@ -83,6 +122,12 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 
 	protected D createResourceWithId(Object id, T entity, Object... parameters) {
 
+		IdentifierLinkExpander selfLinks = getCurrentSelfLinks(parameters);
+
+		if (selfLinks != null) {
+			return createResourceWithId(id, entity, selfLinks);
+		}
+
 		Assert.notNull(entity, "Entity must not be null!");
 		Assert.notNull(id, "Id must not be null!");
 
@@ -91,6 +136,38 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return instance;
 	}
 
+	/**
+	 * Creates a new resource with a self link to the given id using the given {@link IdentifierLinkExpander} for the
+	 * controller.
+	 * 
+	 * @param id must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param selfLinks must not be {@literal null}.
+	 * @return
+	 * @since 0.24
+	 */
+	protected D createResourceWithId(Object id, T entity, IdentifierLinkExpander selfLinks) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(selfLinks, "IdentifierLinkExpander must not be null!");
+
+		D instance = instantiateResource(entity);
+		instance.add(selfLinks.withSelfRel(id));
+		return instance;
+	}
+
+	/**
+	 * Returns the {@link IdentifierLinkExpander} shared by the entities currently converted via
+	 * {@link #toResources(Iterable)} if self links are to be created without controller parameters.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @return the current {@link IdentifierLinkExpander} or {@literal null} if none is in use or parameters are given.
+	 */
+	IdentifierLinkExpander getCurrentSelfLinks(Object[] parameters) {
+		return parameters.length == 0 ? currentSelfLinks.get() : null;
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompiledUriTemplate} using the examples of section 3.2 of RFC 6570.
+ *
+ * @author agent
+ */
+public class CompiledUriTemplateUnitTest {
+
+	static final Map<String, Object> VALUES = new HashMap<String, Object>();
+
+	static {
+
+		Map<String, String> keys = new LinkedHashMap<String, String>();
+		keys.put("semi", ";");
+		keys.put("dot", ".");
+		keys.put("comma", ",");
+
+		VALUES.put("count", Arrays.asList("one", "two", "three"));
+		VALUES.put("dom", Arrays.asList("example", "com"));
+		VALUES.put("dub", "me/too");
+		VALUES.put("hello", "Hello World!");
+		VALUES.put("half", "50%");
+		VALUES.put("var", "value");
+		VALUES.put("who", "fred");
+		VALUES.put("base", "http://example.com/home/");
+		VALUES.put("path", "/foo/bar");
+		VALUES.put("list", Arrays.asList("red", "green", "blue"));
+		VALUES.put("keys", keys);
+		VALUES.put("v", "6");
+		VALUES.put("x", "1024");
+		VALUES.put("y", "768");
+		VALUES.put("empty", "");
+		VALUES.put("empty_keys", Collections.emptyMap());
+		VALUES.put("undef", null);
+	}
+
+	@Test
+	public void expandsSimpleStrings() {
+
+		assertExpansion("{var}", "value");
+		assertExpansion("{hello}", "Hello%20World%21");
+		assertExpansion("{half}", "50%25");
+		assertExpansion("O{empty}X", "OX");
+		assertExpansion("O{undef}X", "OX");
+		assertExpansion("{x,y}", "1024,768");
+		assertExpansion("{x,hello,y}", "1024,Hello%20World%21,768");
+		assertExpansion("?{x,empty}", "?1024,");
+		assertExpansion("?{x,undef}", "?1024");
+		assertExpansion("?{undef,y}", "?768");
+		assertExpansion("{var:3}", "val");
+		assertExpansion("{var:30}", "value");
+		assertExpansion("{list}", "red,green,blue");
+		assertExpansion("{list*}", "red,green,blue");
+		assertExpansion("{keys}", "semi,%3B,dot,.,comma,%2C");
+		assertExpansion("{keys*}", "semi=%3B,dot=.,comma=%2C");
+	}
+
+	@Test
+	public void expandsReservedStrings() {
+
+		assertExpansion("{+var}", "value");
+		assertExpansion("{+hello}", "Hello%20World!");
+		assertExpansion("{+half}", "50%25");
+		assertExpansion("{base}index", "http%3A%2F%2Fexample.com%2Fhome%2Findex");
+		assertExpansion("{+base}index", "http://example.com/home/index");
+		assertExpansion("O{+empty}X", "OX");
+		assertExpansion("{+path}/here", "/foo/bar/here");
+		assertExpansion("here?ref={+path}", "here?ref=/foo/bar");
+		assertExpansion("up{+path}{var}/here", "up/foo/barvalue/here");
+		assertExpansion("{+path,x}/here", "/foo/bar,1024/here");
+		assertExpansion("{+path:6}/here", "/foo/b/here");
+		assertExpansion("{+list*}", "red,green,blue");
+		assertExpansion("{+keys*}", "semi=;,dot=.,comma=,");
+	}
+
+	@Test
+	public void expandsFragments() {
+
+		assertExpansion("{#var}", "#value");
+		assertExpansion("{#hello}", "#Hello%20World!");
+		assertExpansion("foo{#empty}", "foo#");
+		assertExpansion("foo{#undef}", "foo");
+		assertExpansion("{#path,x}/here", "#/foo/bar,1024/here");
+		assertExpansion("{#list*}", "#red,green,blue");
+		assertExpansion("{#keys*}", "#semi=;,dot=.,comma=,");
+	}
+
+	@Test
+	public void expandsLabels() {
+
+		assertExpansion("{.who,who}", ".fred.fred");
+		assertExpansion("{.half,who}", ".50%25.fred");
+		assertExpansion("www{.dom*}", "www.example.com");
+		assertExpansion("X{.empty}", "X.");
+		assertExpansion("X{.undef}", "X");
+		assertExpansion("X{.var:3}", "X.val");
+		assertExpansion("X{.list}", "X.red,green,blue");
+		assertExpansion("X{.list*}", "X.red.green.blue");
+		assertExpansion("X{.keys*}", "X.semi=%3B.dot=..comma=%2C");
+		assertExpansion("X{.empty_keys*}", "X");
+	}
+
+	@Test
+	public void expandsPathSegments() {
+
+		assertExpansion("{/who,dub}", "/fred/me%2Ftoo");
+		assertExpansion("{/var,empty}", "/value/");
+		assertExpansion("{/var,undef}", "/value");
+		assertExpansion("{/var,x}/here", "/value/1024/here");
+		assertExpansion("{/var:1,var}", "/v/value");
+		assertExpansion("{/list}", "/red,green,blue");
+		assertExpansion("{/list*}", "/red/green/blue");
+		assertExpansion("{/list*,path:4}", "/red/green/blue/%2Ffoo");
+		assertExpansion("{/keys}", "/semi,%3B,dot,.,comma,%2C");
+		assertExpansion("{/keys*}", "/semi=%3B/dot=./comma=%2C");
+	}
+
+	@Test
+	public void expandsPathStyleParameters() {
+
+		assertExpansion("{;half}", ";half=50%25");
+		assertExpansion("{;empty}", ";empty");
+		assertExpansion("{;v,empty,who}", ";v=6;empty;who=fred");
+		assertExpansion("{;x,y,undef}", ";x=1024;y=768");
+		assertExpansion("{;hello:5}", ";hello=Hello");
+		assertExpansion("{;list}", ";list=red,green,blue");
+		assertExpansion("{;list*}", ";list=red;list=green;list=blue");
+		assertExpansion("{;keys}", ";keys=semi,%3B,dot,.,comma,%2C");
+		assertExpansion("{;keys*}", ";semi=%3B;dot=.;comma=%2C");
+	}
+
+	@Test
+	public void expandsQueries() {
+
+		assertExpansion("{?x,y,empty}", "?x=1024&y=768&empty=");
+		assertExpansion("{?x,y,undef}", "?x=1024&y=768");
+		assertExpansion("{?var:3}", "?var=val");
+		assertExpansion("{?list}", "?list=red,green,blue");
+		assertExpansion("{?list*}", "?list=red&list=green&list=blue");
+		assertExpansion("{?keys}", "?keys=semi,%3B,dot,.,comma,%2C");
+		assertExpansion("{?keys*}", "?semi=%3B&dot=.&comma=%2C");
+		assertExpansion("?fixed=yes{&x}", "?fixed=yes&x=1024");
+		assertExpansion("{&list*}", "&list=red&list=green&list=blue");
+	}
+
+	@Test
+	public void considersInvalidExpressionsLiterals() {
+
+		assertExpansion("{}", "%7B%7D");
+		assertExpansion("{ var }", "%7B%20var%20%7D");
+		assertExpansion("{var", "%7Bvar");
+		assertExpansion("{=var}", "%7B=var%7D");
+		assertExpansion("{var:0}", "%7Bvar:0%7D");
+		assertExpansion("{var,}", "%7Bvar,%7D");
+
+		assertThat(CompiledUriTemplate.containsExpression("{ var }"), is(false));
+		assertThat(CompiledUriTemplate.containsExpression("{ var }{var}"), is(true));
+	}
+
+	@Test
+	public void exposesExpressionsInDeclarationOrder() {
+
+		CompiledUriTemplate template = CompiledUriTemplate.compile("/foo/{id}{?page,size*}");
+
+		assertThat(template.getExpressions(), hasSize(2));
+		assertThat(template.getExpressions().get(0).getStart(), is(5));
+		assertThat(template.getExpressions().get(1).getVariables().get(1).getName(), is("size"));
+		assertThat(template.getExpressions().get(1).getVariables().get(1).getModifier(), is("*"));
+	}
+
+	private static void assertExpansion(String template, String expected) {
+		assertThat(template, CompiledUriTemplate.compile(template).expand(VALUES), is(expected));
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LinkList}.
+ *
+ * @author agent
+ */
+public class LinkListUnitTest {
+
+	Link first = new Link("/first", "foo");
+	Link second = new Link("/second", "bar");
+	Link third = new Link("/third", "foo");
+
+	@Test
+	public void groupsLinksByRelInInsertionOrder() {
+
+		LinkList links = new LinkList(Arrays.asList(first, second, third));
+
+		assertThat(links, contains(first, second, third));
+		assertThat(links.getLinksByRel().keySet(), contains("foo", "bar"));
+		assertThat(links.getLinks("foo"), contains(first, third));
+		assertThat(links.getLink("foo"), is(first));
+		assertThat(links.getLink("bar"), is(second));
+		assertThat(links.hasLink("bar"), is(true));
+		assertThat(links.hasLink("foobar"), is(false));
+		assertThat(links.getLinks("foobar"), is(empty()));
+	}
+
+	@Test
+	public void updatesIndexOnModification() {
+
+		LinkList links = new LinkList(Arrays.asList(first, second, third));
+
+		links.remove(first);
+
+		assertThat(links.getLink("foo"), is(third));
+		assertThat(links.getLinksByRel().keySet(), contains("bar", "foo"));
+
+		links.add(0, first);
+		links.set(1, new Link("/second", "foobar"));
+
+		assertThat(links.getLinksByRel().keySet(), contains("foo", "foobar"));
+		assertThat(links.hasLink("bar"), is(false));
+
+		Iterator<Link> iterator = links.iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertThat(links.getLinks("foo"), contains(third));
+
+		links.clear();
+
+		assertThat(links.getLinksByRel().isEmpty(), is(true));
+		assertThat(links.getLink("foo"), is(nullValue()));
+	}
+
+	@Test
+	public void keepsOrderOfRelsWhenRemovingLinks() {
+
+		Link fourth = new Link("/fourth", "foobar");
+		LinkList links = new LinkList(Arrays.asList(first, second, third, fourth));
+
+		links.remove(2);
+
+		assertThat(links.getLinks("foo"), contains(first));
+		assertThat(links.getLinksByRel().keySet(), contains("foo", "bar", "foobar"));
+
+		links.remove(1);
+
+		assertThat(links.hasLink("bar"), is(false));
+		assertThat(links.getLinksByRel().keySet(), contains("foo", "foobar"));
+
+		links.add(third);
+		links.remove(0);
+
+		assertThat(links.getLinks("foo"), contains(third));
+		assertThat(links.getLinksByRel().keySet(), contains("foobar", "foo"));
+	}
+
+	@Test
+	public void removesLinksViaIterator() {
+
+		LinkList links = new LinkList(Arrays.asList(first, second, third, first));
+		Iterator<Link> iterator = links.iterator();
+
+		while (iterator.hasNext()) {
+			if (iterator.next().getRel().equals("foo")) {
+				iterator.remove();
+			}
+		}
+
+		assertThat(links, contains(second));
+		assertThat(links.getLinksByRel().keySet(), contains("bar"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void doesNotAllowModifyingGroups() {
+
+		LinkList links = new LinkList(Arrays.asList(first));
+		links.getLinks("foo").add(second);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullLink() {
+		new LinkList().add(null);
+	}
+}
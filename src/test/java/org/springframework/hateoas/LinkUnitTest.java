@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2016 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.io.ObjectOutputStream;
 
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.junit.Test;
+import org.springframework.hateoas.TemplateVariable.VariableType;
 
 /**
  * Unit tests for {@link Link}.
@@ -125,6 +126,16 @@ public class LinkUnitTest {
 		Link.valueOf("foo");
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMultipleLinkValues() {
+		Link.valueOf("</a>;rel=\"x\", </b>;rel=\"y\"");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsTrailingContent() {
+		Link.valueOf("</a>;rel=\"x\" foo");
+	}
+
 	/**
 	 * @see #137
 	 */
@@ -191,4 +202,108 @@ public class LinkUnitTest {
 		assertThat(Link.valueOf("<http://localhost>; rel=\"http://acme.com/rels/foo-bar\"").getRel(),
 				is("http://acme.com/rels/foo-bar"));
 	}
+
+	@Test
+	public void internsRels() {
+
+		Link first = new Link("/foo", new String("orders"));
+		Link second = new Link("/bar", new String("orders"));
+
+		assertThat(first.getRel(), is(sameInstance(second.getRel())));
+	}
+
+	@Test
+	public void sharesHrefWithLinkUsingDifferentRel() {
+
+		Link link = new Link("/foo{?bar}");
+		Link result = link.withRel("orders");
+
+		assertThat(result.getHref(), is(sameInstance(link.getHref())));
+		assertThat(result.getRel(), is("orders"));
+		assertThat(result.isTemplated(), is(true));
+	}
+
+	@Test
+	public void keepsPlainHrefAsIs() {
+
+		String href = "http://localhost/orders/4711";
+
+		assertThat(new Link(href).getHref(), is(sameInstance(href)));
+	}
+
+	@Test
+	public void doesNotParsePlainHref() {
+
+		UriTemplateCache cache = UriTemplate.getCache();
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+
+		Link link = new Link("http://localhost/orders/" + System.nanoTime(), "order");
+
+		assertThat(link.isTemplated(), is(false));
+		assertThat(link.getVariables(), is(empty()));
+		assertThat(link.getVariableNames(), is(empty()));
+		assertThat(link.withRel("foo").getHref(), is(link.getHref()));
+
+		assertThat(cache.getHitCount(), is(hits));
+		assertThat(cache.getMissCount(), is(misses));
+	}
+
+	@Test
+	public void expandsToNonTemplatedLink() {
+
+		Link link = new Link("/foo/{bar}{?baz}", "foo");
+		Link expanded = link.expand("bar");
+
+		assertThat(expanded.getHref(), is("/foo/bar"));
+		assertThat(expanded.getRel(), is("foo"));
+		assertThat(expanded.isTemplated(), is(false));
+		assertThat(link.expandToString("my bar", "baz"), is("/foo/my%20bar?baz=baz"));
+	}
+
+	@Test
+	public void encodesReservedCharactersWhenExpanding() {
+
+		Link link = new Link("/foo/{id}{?q}", "foo");
+
+		assertThat(link.expand("a/b", "x:y").getHref(), is("/foo/a%2Fb?q=x%3Ay"));
+		assertThat(link.expand("a b", "a+b").getHref(), is("/foo/a%20b?q=a%2Bb"));
+	}
+
+	@Test
+	public void keepsTemplateVariableDescriptions() {
+
+		TemplateVariables variables = new TemplateVariables(
+				new TemplateVariable("page", VariableType.REQUEST_PARAM, "The page"));
+		Link link = new Link(new UriTemplate("/foo", variables), "self");
+
+		assertThat(link.getVariables(), is(variables.asList()));
+		assertThat(link.getVariables().get(0).toString(), is("{?page} - The page"));
+		assertThat(link.withRel("foo").getVariables().get(0).getDescription(), is("The page"));
+	}
+
+	@Test
+	public void doesNotLookUpTemplateForEveryAccess() {
+
+		UriTemplateCache cache = UriTemplate.getCache();
+		Link link = new Link("/foo/{bar}" + System.nanoTime(), "foo");
+
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+
+		assertThat(link.isTemplated(), is(true));
+		assertThat(link.getVariableNames(), contains("bar"));
+		assertThat(link.expand("bar").getHref(), startsWith("/foo/bar"));
+
+		assertThat(cache.getHitCount(), is(hits));
+		assertThat(cache.getMissCount(), is(misses));
+	}
+
+	@Test
+	public void keepsLiteralsFollowingOptionalExpressionsInHref() {
+
+		assertThat(new Link("/foo{.fmt}/bar").getHref(), is("/foo{.fmt}/bar"));
+		assertThat(new Link("/foo{;x}/bar").getHref(), is("/foo{;x}/bar"));
+		assertThat(new Link("/foo{.fmt}/bar").expand("json").getHref(), is("/foo.json/bar"));
+	}
 }
@@ -77,4 +77,53 @@ public class LinksUnitTest {
 		assertThat(twoWithCommaInFirst.getLink("foo"), is(withComma));
 		assertThat(twoWithCommaInFirst.getLink("bar"), is(new Link("/somethingElse", "bar")));
 	}
+
+	@Test
+	public void parsesLinkHeaderWithArbitraryParameters() {
+
+		String header = "</something>; title=\"A, B; C\"; rel=foo, </somethingElse> ;REL=\"bar\" ;rel=\"ignored\";"
+				+ " hreflang=en; title*=UTF-8'de'n%c3%a4chstes";
+
+		assertThat(Links.valueOf(header), is(reference));
+	}
+
+	@Test
+	public void createsLinkPerRelationType() {
+
+		Links links = Links.valueOf("</something>;rel=\"foo  bar\"");
+
+		assertThat(links.getLink("foo"), is(new Link("/something", "foo")));
+		assertThat(links.getLink("bar"), is(new Link("/something", "bar")));
+	}
+
+	@Test
+	public void skipsMalformedLinkValues() {
+
+		String header = "foo;rel=\"<bar>\", </something>;rel=\"foo\", </noRel>;title=\"title\", "
+				+ "</broken>;rel=\"unterminated, </somethingElse>;rel=\"bar\"";
+
+		assertThat(Links.valueOf(header).getLink("foo"), is(new Link("/something", "foo")));
+		assertThat(Links.valueOf(header).getLink("bar"), is(nullValue()));
+		assertThat(Links.valueOf(FIRST + ",</noRel>," + SECOND), is(reference));
+	}
+
+	@Test
+	public void rendersQuotedRelations() {
+
+		Links links = new Links(new Link("/something", "foo\"bar"));
+
+		assertThat(links.toString(), is("</something>;rel=\"foo\\\"bar\""));
+		assertThat(Links.valueOf(links.toString()), is(links));
+	}
+
+	@Test
+	public void wrapsLinkListWithoutCopying() {
+
+		LinkList list = new LinkList(Arrays.asList(new Link("/something", "foo")));
+		Links links = new Links(list);
+
+		list.add(new Link("/somethingElse", "bar"));
+
+		assertThat(links.getLink("bar"), is(new Link("/somethingElse", "bar")));
+	}
 }
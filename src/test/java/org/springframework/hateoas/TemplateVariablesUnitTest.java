@@ -1,5 +1,5 @@
 /*
- * Copyright 2014 the original author or authors.
+ * Copyright 2014-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -203,4 +203,28 @@ public class TemplateVariablesUnitTest {
 	public void variableRejectsNullDescription() {
 		new TemplateVariable("foo", PATH_VARIABLE, null);
 	}
+
+	@Test
+	public void builderSkipsEquivalentVariables() {
+
+		TemplateVariable parameter = new TemplateVariable("foo", REQUEST_PARAM);
+		TemplateVariable segment = new TemplateVariable("foo", SEGMENT);
+
+		TemplateVariables.Builder builder = TemplateVariables.builder();
+
+		assertThat(builder.isEmpty(), is(true));
+
+		TemplateVariables variables = builder.add(parameter) //
+				.add(new TemplateVariable("foo", REQUEST_PARAM_CONTINUED)) //
+				.add(segment) //
+				.add(new TemplateVariable("foo", SEGMENT)) //
+				.build();
+
+		assertThat(variables.asList(), contains(parameter, segment));
+	}
+
+	@Test
+	public void builderReturnsNoneIfNothingWasAdded() {
+		assertThat(TemplateVariables.builder().build(), is(sameInstance(TemplateVariables.NONE)));
+	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UriTemplateCache}.
+ *
+ * @author agent
+ */
+public class UriTemplateCacheUnitTest {
+
+	@Test
+	public void returnsCachedTemplateAndTracksStatistics() {
+
+		UriTemplateCache cache = new UriTemplateCache(2);
+
+		UriTemplate template = cache.get("/foo{?bar}");
+
+		assertThat(cache.get("/foo{?bar}"), is(sameInstance(template)));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+		assertThat(cache.size(), is(1));
+	}
+
+	@Test
+	public void evictsOldestTemplatesOnceCapacityIsExceeded() {
+
+		UriTemplateCache cache = new UriTemplateCache(2);
+
+		UriTemplate first = cache.get("/first");
+		cache.get("/second");
+		cache.get("/third");
+
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get("/first"), is(not(sameInstance(first))));
+		assertThat(cache.getMissCount(), is(4L));
+	}
+
+	@Test
+	public void clearRemovesTemplatesAndResetsStatistics() {
+
+		UriTemplateCache cache = new UriTemplateCache(2);
+
+		cache.get("/foo");
+		cache.get("/foo");
+		cache.clear();
+
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getHitCount(), is(0L));
+		assertThat(cache.getMissCount(), is(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidCapacity() {
+		new UriTemplateCache(0);
+	}
+
+	@Test
+	public void linksShareCachedTemplates() {
+
+		UriTemplate template = UriTemplate.of("/foo/{id}{?page}");
+
+		assertThat(UriTemplate.of("/foo/{id}{?page}"), is(sameInstance(template)));
+		assertThat(new Link("/foo/{id}{?page}").getVariableNames(), contains("id", "page"));
+	}
+}
@@ -261,6 +261,59 @@ public class UriTemplateUnitTest {
 		assertThat(template.toString(), is("/{?q}"));
 	}
 
+	@Test
+	public void expandsPositionalParametersInOrderOfVariables() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?page,size}");
+
+		assertThat(template.expand(1, 2, 3).toString(), is("/foo/1?page=2&size=3"));
+	}
+
+	@Test
+	public void supportsLevelFourExpressions() {
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("path", "/bar");
+		parameters.put("format", "json");
+		parameters.put("sort", Arrays.asList("name", "age"));
+
+		UriTemplate template = new UriTemplate("/foo{+path}{.format}{?sort*}");
+
+		assertThat(template.toString(), is("/foo{+path}{.format}{?sort*}"));
+		assertThat(template.getVariableNames(), contains("path", "format", "sort"));
+		assertThat(template.expand(parameters).toString(), is("/foo/bar.json?sort=name&sort=age"));
+	}
+
+	@Test
+	public void encodesParameterValues() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?q}");
+
+		assertThat(template.expand("with blank", "a&b").toString(), is("/foo/with%20blank?q=a%26b"));
+	}
+
+	@Test
+	public void encodesReservedCharactersInSimpleExpansion() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}");
+
+		assertThat(template.expand("a/b").toString(), is("/foo/a%2Fb"));
+		assertThat(template.expand("x:y@z").toString(), is("/foo/x%3Ay%40z"));
+		assertThat(template.expand("a+b").toString(), is("/foo/a%2Bb"));
+		assertThat(template.expand("a b").toString(), is("/foo/a%20b"));
+		assertThat(template.expand("100%").toString(), is("/foo/100%25"));
+	}
+
+	@Test
+	public void keepsReservedCharactersInReservedExpansion() {
+
+		UriTemplate template = new UriTemplate("/foo/{+path}");
+
+		assertThat(template.expand("a/b").toString(), is("/foo/a/b"));
+		assertThat(template.expand("x:y@z").toString(), is("/foo/x:y@z"));
+		assertThat(template.expand("a b").toString(), is("/foo/a%20b"));
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
@@ -276,4 +329,42 @@ public class UriTemplateUnitTest {
 			assertThat(template.getVariableNames(), hasItems(variable.getName()));
 		}
 	}
+
+	@Test
+	public void expandsToEncodedString() {
+
+		UriTemplate template = new UriTemplate("/foo/{bar}{?baz}");
+
+		assertThat(template.expandToString("my bar", "my baz"), is("/foo/my%20bar?baz=my%20baz"));
+		assertThat(template.expandToString(Collections.singletonMap("bar", "bar")), is("/foo/bar"));
+		assertThat(new UriTemplate("/foo").expandToString(), is("/foo"));
+	}
+
+	@Test
+	public void encodesLiteralsWhetherOrNotTheTemplateContainsVariables() {
+
+		assertThat(new UriTemplate("/a b").expandToString(), is("/a%20b"));
+		assertThat(new UriTemplate("/a b").expandToString(Collections.<String, Object> emptyMap()), is("/a%20b"));
+		assertThat(new UriTemplate("/a b").expand(), is(URI.create("/a%20b")));
+		assertThat(new UriTemplate("/a b/{id}").expandToString(1), is("/a%20b/1"));
+		assertThat(new UriTemplate("/a%20b").expandToString(), is("/a%20b"));
+	}
+
+	@Test
+	public void keepsLiteralsFollowingOptionalExpressions() {
+
+		for (String source : Arrays.asList("/foo{.fmt}/bar", "/foo{;x}/bar", "/foo{?x}/bar", "/foo{.fmt}/bar{?q}")) {
+
+			UriTemplate template = new UriTemplate(source);
+
+			assertThat(template.toString(), is(source));
+			assertThat(new UriTemplate(template.toString()).toString(), is(source));
+		}
+
+		UriTemplate template = new UriTemplate("/foo{.fmt}/bar{?q}");
+
+		assertThat(template.getVariableNames(), contains("fmt", "q"));
+		assertThat(template.expandToString("json", "x"), is("/foo.json/bar?q=x"));
+		assertThat(template.expandToString(), is("/foo/bar"));
+	}
 }
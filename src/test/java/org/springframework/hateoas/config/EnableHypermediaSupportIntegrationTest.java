@@ -26,6 +26,7 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -41,16 +42,27 @@ import org.springframework.hateoas.config.HypermediaSupportBeanDefinitionRegistr
 import org.springframework.hateoas.core.DelegatingEntityLinks;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
+import org.springframework.hateoas.mvc.ControllerLinkCacheInitializer;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.stereotype.Controller;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
 import org.springframework.web.servlet.mvc.method.annotation.AbstractMessageConverterMethodArgumentResolver;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -146,6 +158,59 @@ public class EnableHypermediaSupportIntegrationTest {
 		context.close();
 	}
 
+	@Test
+	public void warmsUpLinkCachesForRegisteredHandlerMethodsIfConfigured() {
+
+		List<ILoggingEvent> warnings = captureLinkCacheWarnings(WarmUpConfig.class);
+
+		assertThat(warnings, hasSize(1));
+		assertThat(warnings.get(0).getFormattedMessage(), containsString("UnmappedController.unmapped()"));
+	}
+
+	@Test
+	public void doesNotWarmUpLinkCachesIfNotConfigured() {
+		assertThat(captureLinkCacheWarnings(NoWarmUpConfig.class), is(empty()));
+	}
+
+	/**
+	 * Bootstraps the given configuration class and returns the warnings logged by {@link ControllerLinkCacheInitializer}
+	 * while doing so. Asserts the {@link ControllerLinkCacheInitializer} being registered if and only if anything was
+	 * logged.
+	 * 
+	 * @param configClass must not be {@literal null}.
+	 * @return
+	 */
+	private static List<ILoggingEvent> captureLinkCacheWarnings(Class<?> configClass) {
+
+		Logger logger = (Logger) LoggerFactory.getLogger(ControllerLinkCacheInitializer.class);
+		Level level = logger.getLevel();
+		ListAppender<ILoggingEvent> appender = new ListAppender<ILoggingEvent>();
+
+		appender.start();
+		logger.addAppender(appender);
+		logger.setLevel(Level.WARN);
+
+		try {
+
+			AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(configClass);
+
+			try {
+
+				boolean initializerRegistered = !context.getBeansOfType(ControllerLinkCacheInitializer.class).isEmpty();
+				assertThat(initializerRegistered, is(!appender.list.isEmpty()));
+
+			} finally {
+				context.close();
+			}
+
+			return appender.list;
+
+		} finally {
+			logger.setLevel(level);
+			logger.detachAppender(appender);
+		}
+	}
+
 	private static void assertEntityLinksSetUp(ApplicationContext context) {
 
 		Map<String, EntityLinks> discoverers = context.getBeansOfType(EntityLinks.class);
@@ -224,4 +289,61 @@ public class EnableHypermediaSupportIntegrationTest {
 	static class DelegateConfig {
 
 	}
+
+	@Configuration
+	@EnableHypermediaSupport(type = HypermediaType.HAL, warmUpLinkCaches = true)
+	static class WarmUpConfig {
+
+		@Bean
+		public RequestMappingHandlerMapping rmhm() {
+			return new RequestMappingHandlerMapping();
+		}
+
+		@Bean
+		public SampleController sampleController() {
+			return new SampleController();
+		}
+
+		@Bean
+		public UnmappedController unmappedController() {
+			return new UnmappedController();
+		}
+	}
+
+	@Configuration
+	@EnableHypermediaSupport(type = HypermediaType.HAL, warmUpLinkCaches = false)
+	static class NoWarmUpConfig {
+
+		@Bean
+		public RequestMappingHandlerMapping rmhm() {
+			return new RequestMappingHandlerMapping();
+		}
+
+		@Bean
+		public UnmappedController unmappedController() {
+			return new UnmappedController();
+		}
+	}
+
+	@Controller
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@RequestMapping("/{id}")
+		HttpEntity<Void> sample(@PathVariable Long id) {
+			return null;
+		}
+	}
+
+	/**
+	 * Controller without any mapping path, so that no links can be built to it.
+	 */
+	@Controller
+	static class UnmappedController {
+
+		@RequestMapping
+		HttpEntity<Void> unmapped() {
+			return null;
+		}
+	}
 }
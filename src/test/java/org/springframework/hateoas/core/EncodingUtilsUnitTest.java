@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Unit tests for {@link EncodingUtils}.
+ * 
+ * @author agent
+ */
+public class EncodingUtilsUnitTest {
+
+	static final List<Object> VALUES = Arrays.<Object> asList(4711L, -1, (short) 3, UUID.randomUUID(), "plain-slug_.~",
+			"with blank", "ümlaut", "a/b?c#d", "key=value&other", "100%", "{foo}", "!$'()*+,;:@", "\"<>\\^`|", "日本語",
+			"😀", "");
+
+	@Test
+	public void encodesPathLikeUriUtils() throws Exception {
+
+		for (Object value : VALUES) {
+
+			String expected = UriUtils.encodePath(value.toString(), "UTF-8");
+
+			assertThat(EncodingUtils.encodePath(value), is(expected));
+			assertThat(EncodingUtils.encodePath(value, new StringBuilder("prefix")).toString(), is("prefix" + expected));
+		}
+	}
+
+	@Test
+	public void encodesParameterLikeUriUtils() throws Exception {
+
+		for (Object value : VALUES) {
+
+			String expected = UriUtils.encodeQueryParam(value.toString(), "UTF-8");
+
+			assertThat(EncodingUtils.encodeParameter(value), is(expected));
+			assertThat(EncodingUtils.encodeParameter(value, new StringBuilder()).toString(), is(expected));
+		}
+	}
+
+	@Test
+	public void encodesFragmentLikeUriUtils() throws Exception {
+
+		for (Object value : VALUES) {
+
+			String expected = UriUtils.encodeFragment(value.toString(), "UTF-8");
+
+			assertThat(EncodingUtils.encodeFragment(value), is(expected));
+			assertThat(EncodingUtils.encodeFragment(value, new StringBuilder()).toString(), is(expected));
+		}
+	}
+
+	@Test
+	public void returnsSourceStringIfNoEncodingIsNeeded() {
+
+		String source = "plain-slug";
+
+		assertThat(EncodingUtils.encodePath(source), is(sameInstance(source)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullPathValue() {
+		EncodingUtils.encodePath(null);
+	}
+}
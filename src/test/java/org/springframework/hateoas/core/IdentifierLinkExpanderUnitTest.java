@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkBuilder;
+import org.springframework.hateoas.LinkBuilderFactory;
+import org.springframework.hateoas.core.LinkBuilderSupportUnitTest.SampleLinkBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link IdentifierLinkExpander}.
+ * 
+ * @author agent
+ */
+public class IdentifierLinkExpanderUnitTest {
+
+	@Test
+	public void createsSameLinksAsSlashingTheBaseBuilder() {
+
+		LinkBuilder builder = builderFor("http://localhost:8080/people");
+		IdentifierLinkExpander expander = new IdentifierLinkExpander(builder);
+
+		UUID uuid = UUID.randomUUID();
+
+		for (Object id : Arrays.<Object> asList(1L, 4711, "slug-with_chars.~", uuid, "with blank", "ümlaut", "foo/bar",
+				"foo#bar", "foo:bar", "{foo}", "100%", "a;b=c", "   ", "", null)) {
+			assertThat(expander.withRel(id, "item"), is(builder.slash(id).withRel("item")));
+		}
+	}
+
+	@Test
+	public void doesNotDuplicateTrailingSlashOfBaseUri() {
+
+		LinkBuilder builder = builderFor("http://localhost/");
+		IdentifierLinkExpander expander = new IdentifierLinkExpander(builder);
+
+		assertThat(expander.withSelfRel(1L).getHref(), is("http://localhost/1"));
+		assertThat(expander.withSelfRel(1L), is(builder.slash(1L).withSelfRel()));
+	}
+
+	@Test
+	public void fallsBackToBuilderForBaseUriWithQuery() {
+
+		LinkBuilder builder = builderFor("http://localhost/people?page=1");
+		IdentifierLinkExpander expander = new IdentifierLinkExpander(builder);
+
+		assertThat(expander.withSelfRel(1L), is(builder.slash(1L).withSelfRel()));
+	}
+
+	@Test
+	public void unwrapsIdentifiables() {
+
+		LinkBuilder builder = builderFor("http://localhost/people");
+		IdentifierLinkExpander expander = new IdentifierLinkExpander(builder);
+
+		Identifiable<Long> identifiable = new Identifiable<Long>() {
+
+			@Override
+			public Long getId() {
+				return 42L;
+			}
+		};
+
+		assertThat(expander.withSelfRel(identifiable).getHref(), is("http://localhost/people/42"));
+	}
+
+	@Test
+	public void createsSelfLinksForMultipleIds() {
+
+		List<Link> links = new IdentifierLinkExpander(builderFor("http://localhost/people")).withSelfRel(Arrays.asList(1, 2));
+
+		assertThat(links, hasItems(new Link("http://localhost/people/1"), new Link("http://localhost/people/2")));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void obtainsBuilderFromFactoryOnFirstUseOnly() {
+
+		LinkBuilderFactory factory = mock(LinkBuilderFactory.class);
+		when(factory.linkTo(Object.class)).thenReturn(builderFor("http://localhost/people"));
+
+		IdentifierLinkExpander expander = new IdentifierLinkExpander(factory, Object.class);
+
+		verify(factory, never()).linkTo(Object.class);
+
+		assertThat(expander.withSelfRel(1L).getHref(), is("http://localhost/people/1"));
+		assertThat(expander.withSelfRel(2L).getHref(), is("http://localhost/people/2"));
+
+		verify(factory, times(1)).linkTo(Object.class);
+	}
+
+	private static LinkBuilder builderFor(String uri) {
+		return new SampleLinkBuilder(UriComponentsBuilder.fromUriString(uri));
+	}
+}
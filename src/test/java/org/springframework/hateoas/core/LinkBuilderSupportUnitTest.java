@@ -18,9 +18,15 @@ package org.springframework.hateoas.core;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.net.URI;
+import java.util.List;
+
 import org.junit.Test;
+import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
 /**
  * Unit tests for {@link LinkBuilderSupport}.
@@ -53,12 +59,75 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 		assertThat(builder.toString(), endsWith("foo%20bar#foo"));
 	}
 
+	@Test
+	public void appendsPathSegmentsLikeReparsingTheUri() throws Exception {
+
+		String[] bases = { "http://localhost/people/", "http://localhost", "", "/", "people", "http://localhost/{id}/foo",
+				"http://localhost/a%20b", "http://localhost/foo?bar=baz", "http://localhost/foo#bar" };
+		String[] segments = { "1", "foo bar", "\u00e4", "a;b", "{x}", "%" };
+
+		for (String base : bases) {
+			for (String segment : segments) {
+
+				String expected = reparseAndAppend(reparseAndAppend(base, segment).toUriString(), "next").toUriString();
+				URI expectedUri = reparseAndAppend(reparseAndAppend(base, segment).toUriString(), "next").encode().toUri()
+						.normalize();
+
+				LinkBuilder appending = new AppendingLinkBuilder(UriComponentsBuilder.fromUriString(base)).slash(segment)
+						.slash("next");
+				LinkBuilder reparsing = new SampleLinkBuilder(UriComponentsBuilder.fromUriString(base)).slash(segment)
+						.slash("next");
+
+				assertThat(appending.toString(), is(expected));
+				assertThat(appending.toUri(), is(expectedUri));
+				assertThat(reparsing.toString(), is(expected));
+				assertThat(reparsing.toUri(), is(expectedUri));
+			}
+		}
+	}
+
+	/**
+	 * The way {@link LinkBuilderSupport#slash(Object)} used to append a single path segment.
+	 */
+	private static UriComponents reparseAndAppend(String uri, String segment) throws Exception {
+
+		UriComponentsBuilder builder = uri.isEmpty() ? UriComponentsBuilder.fromUri(new URI(uri))
+				: UriComponentsBuilder.fromUriString(uri);
+
+		return builder.pathSegment(UriUtils.encodePath(segment, "UTF-8")).query(null).build();
+	}
+
+	static class AppendingLinkBuilder extends SampleLinkBuilder {
+
+		public AppendingLinkBuilder(UriComponentsBuilder builder) {
+			super(builder);
+		}
+
+		AppendingLinkBuilder(UriComponents uriComponents, List<String> pathSegments) {
+			super(uriComponents, pathSegments);
+		}
+
+		@Override
+		protected SampleLinkBuilder createNewInstance(UriComponentsBuilder builder) {
+			return new AppendingLinkBuilder(builder);
+		}
+
+		@Override
+		protected SampleLinkBuilder createNewInstance(UriComponents uriComponents, List<String> pathSegments) {
+			return new AppendingLinkBuilder(uriComponents, pathSegments);
+		}
+	}
+
 	static class SampleLinkBuilder extends LinkBuilderSupport<SampleLinkBuilder> {
 
 		public SampleLinkBuilder(UriComponentsBuilder builder) {
 			super(builder);
 		}
 
+		SampleLinkBuilder(UriComponents uriComponents, List<String> pathSegments) {
+			super(uriComponents, pathSegments);
+		}
+
 		@Override
 		protected SampleLinkBuilder getThis() {
 			return this;
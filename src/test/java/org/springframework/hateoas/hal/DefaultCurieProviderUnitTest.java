@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2016 the original author or authors.
+ * Copyright 2013-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -153,6 +153,50 @@ public class DefaultCurieProviderUnitTest {
 		assertThat(((Curie) curie).getHref(), startsWith("http://localhost"));
 	}
 
+	@Test
+	public void reusesCurieInformationForAbsoluteTemplates() {
+
+		Object curies = provider.getCurieInformation(new Links());
+
+		assertThat(provider.getCurieInformation(new Links()), is(sameInstance(curies)));
+	}
+
+	@Test
+	public void cachesCurieInformationPerApplicationUri() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", new UriTemplate("/docs/{rel}"));
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		Object curies = provider.getCurieInformation(new Links());
+
+		assertThat(provider.getCurieInformation(new Links()), is(sameInstance(curies)));
+
+		request.setServerName("example.com");
+
+		Collection<? extends Object> otherCuries = provider.getCurieInformation(new Links());
+
+		assertThat(otherCuries, is(not(sameInstance((Object) curies))));
+		assertThat(((Curie) otherCuries.iterator().next()).getHref(), is("http://example.com/docs/{rel}"));
+	}
+
+	@Test
+	public void usesOverriddenCurieHref() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", URI_TEMPLATE) {
+
+			@Override
+			protected String getCurieHref(String name, UriTemplate template) {
+				return "/custom/{rel}";
+			}
+		};
+
+		Object curie = provider.getCurieInformation(new Links()).iterator().next();
+
+		assertThat(((Curie) curie).getHref(), is("/custom/{rel}"));
+	}
+
 	private static Map<String, UriTemplate> getCuries() {
 
 		Map<String, UriTemplate> curies = new HashMap<String, UriTemplate>(2);
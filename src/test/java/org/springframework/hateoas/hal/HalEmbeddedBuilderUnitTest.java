@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2015 the original author or authors.
+ * Copyright 2013-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -174,6 +174,25 @@ public class HalEmbeddedBuilderUnitTest {
 		new HalEmbeddedBuilder(provider, curieProvider, false).add(mock(EmbeddedWrapper.class));
 	}
 
+	@Test
+	public void appendsLargeNumberOfElementsToCollectionRel() {
+
+		RelProvider relProvider = spy(provider);
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, null, false);
+
+		for (int i = 0; i < 50000; i++) {
+			builder.add(Integer.valueOf(i));
+		}
+
+		Object value = builder.asMap().get("integers");
+
+		assertThat(value, is(instanceOf(List.class)));
+		assertThat((List<?>) value, hasSize(50000));
+		assertThat(((List<?>) value).get(49999), is((Object) 49999));
+
+		verify(relProvider, times(1)).getCollectionResourceRelFor(Integer.class);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static void assertHasValues(Map<String, Object> source, String rel, Object... values) {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2015 the original author or authors.
+ * Copyright 2012-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,7 +44,10 @@ import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 
 /**
  * Integration tests for Jackson 2 HAL integration.
@@ -394,6 +397,96 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(objectMapper.writeValueAsString(resource), is(LINK_WITH_TITLE));
 	}
 
+	@Test
+	public void rendersCuriesForCuriedEmbedsWithoutModifyingTheResource() throws Exception {
+
+		Resources<Resource<SimpleAnnotatedPojo>> resources = setupAnnotatedResources();
+		resources.add(new Link("foo"));
+
+		ObjectMapper mapper = getCuriedObjectMapper();
+		String expected = "{\"_embedded\":{\"foo:pojos\":[{\"text\":\"test1\",\"number\":1,\"_links\":{\"self\":{\"href\":\"localhost\"}}},"
+				+ "{\"text\":\"test2\",\"number\":2,\"_links\":{\"self\":{\"href\":\"localhost\"}}}]},"
+				+ "\"_links\":{\"self\":{\"href\":\"foo\"},"
+				+ "\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"foo\",\"templated\":true}]}}";
+
+		assertThat(mapper.writeValueAsString(resources), is(expected));
+		assertThat(mapper.writeValueAsString(resources), is(expected));
+		assertThat(resources.getLinks(), hasSize(1));
+	}
+
+	@Test
+	public void rendersLinksCuriedToTheSameRelTogether() throws Exception {
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("foo", "myrel"));
+		resource.add(new Link("bar", "foo:myrel"));
+
+		assertThat(getCuriedObjectMapper().writeValueAsString(resource),
+				is("{\"_links\":{\"foo:myrel\":[{\"href\":\"foo\"},{\"href\":\"bar\"}],"
+						+ "\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"foo\",\"templated\":true}]}}"));
+	}
+
+	@Test
+	public void rendersAdditionalPropertiesOfLinkSubclasses() throws Exception {
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("/foo{?bar}", "foo"));
+		resource.add(new LinkWithType("/bar", "bar", "text/html"));
+
+		assertThat(write(resource), is("{\"_links\":{\"foo\":{\"href\":\"/foo{?bar}\",\"templated\":true},"
+				+ "\"bar\":{\"href\":\"/bar\",\"type\":\"text/html\"}}}"));
+	}
+
+	@Test
+	public void rendersUnwrappedContentOfResourcesWithDifferentContentTypes() throws Exception {
+
+		List<Object> content = new ArrayList<Object>();
+		content.add(new Resource<SimplePojo>(new SimplePojo("test1", 1), new Link("localhost")));
+		content.add(new Resource<String>("test2", new Link("localhost")));
+
+		assertThat(write(content), is("[{\"text\":\"test1\",\"number\":1,\"_links\":{\"self\":{\"href\":\"localhost\"}}},"
+				+ "{\"content\":\"test2\",\"_links\":{\"self\":{\"href\":\"localhost\"}}}]"));
+	}
+
+	@Test
+	public void rendersAdditionalPropertiesOfResourceSubclasses() throws Exception {
+
+		ResourceWithType resource = new ResourceWithType(new SimplePojo("test1", 1), "text/html");
+		resource.add(new Link("localhost"));
+
+		assertThat(write(resource), is("{\"text\":\"test1\",\"number\":1,\"type\":\"text/html\","
+				+ "\"_links\":{\"self\":{\"href\":\"localhost\"}}}"));
+	}
+
+	@Test(expected = JsonMappingException.class)
+	public void rejectsUnwrappedContentRequiringTypeInformation() throws Exception {
+
+		mapper.enableDefaultTyping(DefaultTyping.JAVA_LANG_OBJECT);
+
+		write(new Resource<SimplePojo>(new SimplePojo("test1", 1), new Link("localhost")));
+	}
+
+	@Test
+	public void rendersResourceUnwrappedWithPrefix() throws Exception {
+
+		ResourceWrapper wrapper = new ResourceWrapper();
+		wrapper.resource = new Resource<SimplePojo>(new SimplePojo("test1", 1), new Link("localhost"));
+
+		assertThat(write(wrapper),
+				is("{\"p_text\":\"test1\",\"p_number\":1,\"p__links\":{\"self\":{\"href\":\"localhost\"}}}"));
+	}
+
+	@Test
+	public void rendersContentUnwrappedWithPrefix() throws Exception {
+
+		mapper.addMixIn(Resource.class, PrefixedContentMixin.class);
+
+		Resource<SimplePojo> resource = new Resource<SimplePojo>(new SimplePojo("test1", 1), new Link("localhost"));
+
+		assertThat(write(resource),
+				is("{\"c_text\":\"test1\",\"c_number\":1,\"_links\":{\"self\":{\"href\":\"localhost\"}}}"));
+	}
+
 	private static Resources<Resource<SimpleAnnotatedPojo>> setupAnnotatedPagedResources() {
 
 		List<Resource<SimpleAnnotatedPojo>> content = new ArrayList<Resource<SimpleAnnotatedPojo>>();
@@ -436,4 +529,47 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 
 		return mapper;
 	}
+
+	static class LinkWithType extends Link {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String type;
+
+		public LinkWithType(String href, String rel, String type) {
+
+			super(href, rel);
+			this.type = type;
+		}
+
+		public String getType() {
+			return type;
+		}
+	}
+
+	static class ResourceWithType extends Resource<SimplePojo> {
+
+		private final String type;
+
+		public ResourceWithType(SimplePojo content, String type) {
+
+			super(content);
+			this.type = type;
+		}
+
+		public String getType() {
+			return type;
+		}
+	}
+
+	static class ResourceWrapper {
+
+		@JsonUnwrapped(prefix = "p_") public Resource<SimplePojo> resource;
+	}
+
+	static abstract class PrefixedContentMixin {
+
+		@JsonUnwrapped(prefix = "c_")
+		public abstract Object getContent();
+	}
 }
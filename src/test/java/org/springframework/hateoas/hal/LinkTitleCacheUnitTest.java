@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.SpringProperties;
+
+/**
+ * Unit tests for {@link LinkTitleCache}.
+ *
+ * @author agent
+ */
+public class LinkTitleCacheUnitTest {
+
+	StaticMessageSource messageSource;
+	LinkTitleCache cache;
+
+	@Before
+	public void setUp() {
+
+		this.messageSource = new StaticMessageSource();
+		this.cache = new LinkTitleCache(new MessageSourceAccessor(messageSource));
+
+		LocaleContextHolder.setLocale(Locale.US);
+	}
+
+	@After
+	public void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	public void resolvesTitleForNamespacedAndLocalRel() {
+
+		messageSource.addMessage("_links.ns:foo.title", Locale.US, "Namespaced");
+		messageSource.addMessage("_links.bar.title", Locale.US, "Local");
+
+		assertThat(cache.getTitle("ns:foo"), is("Namespaced"));
+		assertThat(cache.getTitle("ns:bar"), is("Local"));
+		assertThat(cache.getTitle("bar"), is("Local"));
+	}
+
+	@Test
+	public void cachesMissingTitles() {
+
+		assertThat(cache.getTitle("foo"), is(nullValue()));
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+
+		assertThat(cache.getTitle("foo"), is(nullValue()));
+	}
+
+	@Test
+	public void cachesTitlesPerLocale() {
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+		messageSource.addMessage("_links.foo.title", Locale.GERMANY, "Fu");
+
+		assertThat(cache.getTitle("foo"), is("Foo"));
+
+		LocaleContextHolder.setLocale(Locale.GERMANY);
+
+		assertThat(cache.getTitle("foo"), is("Fu"));
+	}
+
+	@Test
+	public void returnsNullWithoutMessageSource() {
+		assertThat(new LinkTitleCache(null).getTitle("foo"), is(nullValue()));
+	}
+
+	@Test
+	public void clearsCachedTitles() {
+
+		assertThat(cache.getTitle("foo"), is(nullValue()));
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+		cache.clear();
+
+		assertThat(cache.getTitle("foo"), is("Foo"));
+	}
+
+	@Test
+	public void doesNotCacheTitlesIfDisabled() {
+
+		LinkTitleCache cache = new LinkTitleCache(new MessageSourceAccessor(messageSource), false);
+
+		assertThat(cache.getTitle("foo"), is(nullValue()));
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+
+		assertThat(cache.getTitle("foo"), is("Foo"));
+	}
+
+	@Test
+	public void doesNotCacheTitlesIfDisabledViaSpringProperty() {
+
+		SpringProperties.setProperty(Jackson2HalModule.DISABLE_LINK_TITLE_CACHE_PROPERTY, "true");
+
+		try {
+
+			LinkTitleCache cache = new LinkTitleCache(new MessageSourceAccessor(messageSource));
+
+			assertThat(cache.getTitle("foo"), is(nullValue()));
+
+			messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+
+			assertThat(cache.getTitle("foo"), is("Foo"));
+
+		} finally {
+			SpringProperties.setProperty(Jackson2HalModule.DISABLE_LINK_TITLE_CACHE_PROPERTY, null);
+		}
+	}
+
+	@Test
+	public void prefillsTitlesForGivenLocale() {
+
+		messageSource.addMessage("_links.foo.title", Locale.GERMANY, "Fu");
+
+		cache.prefill(Arrays.asList("foo", "bar"), Locale.GERMANY);
+
+		messageSource.addMessage("_links.foo.title", Locale.GERMANY, "Changed");
+		messageSource.addMessage("_links.bar.title", Locale.GERMANY, "Bar");
+
+		LocaleContextHolder.setLocale(Locale.GERMANY);
+
+		assertThat(cache.getTitle("foo"), is("Fu"));
+		assertThat(cache.getTitle("bar"), is(nullValue()));
+	}
+
+	@Test
+	public void stopsCachingLocalesOnceFull() {
+
+		for (int i = 0; i < LinkTitleCache.MAX_LOCALES; i++) {
+
+			LocaleContextHolder.setLocale(new Locale("l" + i));
+			cache.getTitle("foo");
+		}
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		assertThat(cache.getTitle("foo"), is(nullValue()));
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+
+		assertThat(cache.getTitle("foo"), is("Foo"));
+	}
+
+	@Test
+	public void stopsCachingTitlesOnceFull() {
+
+		for (int i = 0; i < LinkTitleCache.MAX_TITLES; i++) {
+			cache.getTitle("rel" + i);
+		}
+
+		assertThat(cache.getTitle("foo"), is(nullValue()));
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+
+		assertThat(cache.getTitle("foo"), is("Foo"));
+	}
+}
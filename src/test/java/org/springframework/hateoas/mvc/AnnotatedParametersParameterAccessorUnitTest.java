@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+
+import org.joda.time.DateTime;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.Test;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.hateoas.core.AnnotationAttribute;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.MethodParameterBinding;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * Unit tests for {@link AnnotatedParametersParameterAccessor}.
+ *
+ * @author agent
+ */
+public class AnnotatedParametersParameterAccessorUnitTest {
+
+	AnnotatedParametersParameterAccessor accessor = new AnnotatedParametersParameterAccessor(
+			new AnnotationAttribute(PathVariable.class));
+
+	@Test
+	public void resolvesBindingsOncePerMethod() {
+
+		Method method = ReflectionUtils.findMethod(SampleController.class, "scalars", String.class, long.class,
+				Boolean.class, UUID.class);
+
+		List<MethodParameterBinding> bindings = accessor.getBindings(method);
+
+		assertThat(bindings, hasSize(4));
+		assertThat(bindings.get(0).getVariableName(), is("string"));
+		assertThat(bindings.get(1).getVariableName(), is("primitive"));
+		assertThat(accessor.getBindings(method), is(sameInstance(bindings)));
+	}
+
+	@Test
+	public void rendersValuesLikeDefaultConversionService() {
+
+		Method method = ReflectionUtils.findMethod(SampleController.class, "scalars", String.class, long.class,
+				Boolean.class, UUID.class);
+		List<MethodParameterBinding> bindings = accessor.getBindings(method);
+		Object[] values = new Object[] { "value", 4711L, Boolean.TRUE, UUID.randomUUID() };
+
+		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+
+		for (int i = 0; i < values.length; i++) {
+
+			MethodParameterBinding binding = bindings.get(i);
+			Object expected = conversionService.convert(values[i], TypeDescriptor.nested(binding.getParameter(), 0),
+					TypeDescriptor.valueOf(String.class));
+
+			assertThat(binding.asString(values[i]), is(expected));
+		}
+	}
+
+	@Test
+	public void usesFormattingAnnotationsOfParameter() {
+
+		Method method = ReflectionUtils.findMethod(SampleController.class, "formatted", DateTime.class);
+		DateTime now = DateTime.now();
+
+		MethodParameterBinding binding = accessor.getBindings(method).get(0);
+
+		assertThat(binding.asString(now), is(ISODateTimeFormat.date().print(now)));
+	}
+
+	interface SampleController {
+
+		void scalars(@PathVariable("string") String string, @PathVariable("primitive") long primitive,
+				@PathVariable("flag") Boolean flag, @PathVariable("id") UUID id);
+
+		void formatted(@PathVariable("time") @DateTimeFormat(iso = ISO.DATE) DateTime time);
+	}
+}
@@ -32,7 +32,9 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ChildWithTypeMapping;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ParentWithMethod;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonControllerImpl;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
 import org.springframework.http.HttpEntity;
@@ -89,6 +91,34 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref(), endsWith("/sample/1?foo=value"));
 	}
 
+	@Test
+	public void looksUpSupportingContributorsOncePerMethod() {
+
+		CountingUriComponentsContributor contributor = new CountingUriComponentsContributor();
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(contributor));
+
+		SpecialType first = new SpecialType();
+		first.parameterValue = "first";
+
+		SpecialType second = new SpecialType();
+		second.parameterValue = "second";
+
+		Link link = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, first)).withSelfRel();
+		assertThat(link.getHref(), endsWith("/sample/1?foo=first"));
+
+		link = factory.linkTo(methodOn(SampleController.class).sampleMethod(2L, second)).withSelfRel();
+		assertThat(link.getHref(), endsWith("/sample/2?foo=second"));
+
+		assertThat(contributor.supportsInvocations, is(2));
+
+		factory.setUriComponentsContributors(Arrays.asList(contributor));
+		factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, first));
+
+		assertThat(contributor.supportsInvocations, is(4));
+	}
+
 	/**
 	 * @see #57
 	 */
@@ -174,6 +204,26 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref(), endsWith("/people/17/addresses"));
 	}
 
+	@Test
+	public void bindsArgumentsOfRepeatedInvocationsOfTheSameMethod() {
+
+		Link first = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, null)).withSelfRel();
+		Link second = factory.linkTo(methodOn(SampleController.class).sampleMethod(2L, null)).withSelfRel();
+
+		assertThat(first.getHref(), endsWith("/sample/1"));
+		assertThat(second.getHref(), endsWith("/sample/2"));
+	}
+
+	@Test
+	public void resolvesMappingOfInheritedMethodPerInvokedControllerType() {
+
+		Link parent = factory.linkTo(methodOn(ParentWithMethod.class).myMethod()).withSelfRel();
+		Link child = factory.linkTo(methodOn(ChildWithTypeMapping.class).myMethod()).withSelfRel();
+
+		assertThat(parent.getHref(), endsWith("/parent"));
+		assertThat(child.getHref(), endsWith("/child/parent"));
+	}
+
 	static interface SampleController {
 
 		@RequestMapping("/sample/{id}")
@@ -202,6 +252,18 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		}
 	}
 
+	static class CountingUriComponentsContributor extends SampleUriComponentsContributor {
+
+		int supportsInvocations;
+
+		@Override
+		public boolean supportsParameter(MethodParameter parameter) {
+
+			supportsInvocations++;
+			return super.supportsParameter(parameter);
+		}
+	}
+
 	static class SpecialType {
 		String parameterValue;
 	}
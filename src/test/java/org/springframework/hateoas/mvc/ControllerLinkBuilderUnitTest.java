@@ -153,6 +153,53 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref(), endsWith("/something/1/foo"));
 	}
 
+	@Test
+	public void linksToMethodHandleWithoutProxy() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodForNextPage", String.class, Integer.class,
+				Integer.class);
+
+		Link link = linkToMethod(ControllerWithMethods.class, method, "1", 10, 5).withSelfRel();
+
+		assertPointsToMockServer(link);
+		assertThat(link.getHref(), endsWith("/something/1/foo?offset=10&limit=5"));
+		assertThat(link.getHref(), is(linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5))
+				.withSelfRel().getHref()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMethodHandleInvokedWithWrongNumberOfArguments() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodWithPathVariable", String.class);
+
+		linkToMethod(ControllerWithMethods.class, method);
+	}
+
+	@Test
+	public void reusesBaseUriForSubsequentLinksWithinTheSameRequest() {
+
+		Link first = linkTo(PersonControllerImpl.class).withSelfRel();
+
+		request.addHeader("X-Forwarded-Proto", "https");
+
+		Link second = linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("1")).withSelfRel();
+
+		assertThat(first.getHref(), startsWith("http://localhost/"));
+		assertThat(second.getHref(), startsWith("http://localhost/"));
+	}
+
+	@Test
+	public void recalculatesBaseUriIfRequestIsDispatchedToDifferentServletPath() {
+
+		linkTo(PersonControllerImpl.class).withSelfRel();
+
+		request.setServletPath("/api");
+
+		Link link = linkTo(PersonControllerImpl.class).withSelfRel();
+
+		assertThat(link.getHref(), endsWith("/api/people"));
+	}
+
 	/**
 	 * @see #33
 	 */
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderFactoryUnitTest.SampleUriComponentsContributor;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link ControllerLinkTemplate}.
+ * 
+ * @author agent
+ */
+public class ControllerLinkTemplateUnitTest extends TestUtils {
+
+	static final ControllerLinkTemplate NEXT_PAGE = ControllerLinkTemplate.of("/something/{id}/foo") //
+			.method(ControllerWithMethods.class, "methodForNextPage", String.class, Integer.class, Integer.class) //
+			.pathVariable("id") //
+			.requestParam("offset", false, false) //
+			.requestParam("limit", true, false);
+
+	static final ControllerLinkTemplate MULTI_VALUE = ControllerLinkTemplate.of("/something/{id}/foo") //
+			.pathVariable("id") //
+			.requestParam("items", true, false) //
+			.requestParam("limit", true, false);
+
+	static final ControllerLinkTemplate DEFAULT_VALUE = ControllerLinkTemplate.of("/something/bar") //
+			.requestParam("size", true, true);
+
+	@Test
+	public void createsSameLinksAsDummyInvocations() {
+
+		ControllerWithMethods controller = methodOn(ControllerWithMethods.class);
+
+		assertSameLink(NEXT_PAGE.expand("1", 10, 5), controller.methodForNextPage("1", 10, 5));
+		assertSameLink(NEXT_PAGE.expand("with blank", 10, 5), controller.methodForNextPage("with blank", 10, 5));
+		assertSameLink(NEXT_PAGE.expand("1", null, 5), controller.methodForNextPage("1", null, 5));
+		assertSameLink(NEXT_PAGE.expand("1", 10, null), controller.methodForNextPage("1", 10, null));
+		assertSameLink(NEXT_PAGE.expand("1", null, null), controller.methodForNextPage("1", null, null));
+		assertSameLink(NEXT_PAGE.expand(null, 10, 5), controller.methodForNextPage(null, 10, 5));
+
+		assertSameLink(MULTI_VALUE.expand("1", Arrays.asList(3, 7), 5),
+				controller.methodWithMultiValueRequestParams("1", Arrays.asList(3, 7), 5));
+
+		assertSameLink(DEFAULT_VALUE.expand(10), controller.methodForOptionalSizeWithDefaultValue(10));
+		assertSameLink(DEFAULT_VALUE.expand(new Object[] { null }),
+				controller.methodForOptionalSizeWithDefaultValue(null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidNumberOfArguments() {
+		NEXT_PAGE.expand("1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyMapping() {
+		ControllerLinkTemplate.of("");
+	}
+
+	@Test
+	public void expandsTemplateThroughFactoryIfNoContributorApplies() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(new SampleUriComponentsContributor()));
+
+		assertSameLink(factory.linkTo(NEXT_PAGE, "1", 10, 5),
+				methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsTemplateForMethodContributorsApplyTo() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(new IntegerUriComponentsContributor()));
+
+		factory.linkTo(NEXT_PAGE, "1", 10, 5);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsTemplateWithoutMethodIfContributorsConfigured() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setUriComponentsContributors(Arrays.asList(new IntegerUriComponentsContributor()));
+
+		factory.linkTo(DEFAULT_VALUE, 10);
+	}
+
+	private static void assertSameLink(ControllerLinkBuilder builder, Object invocationValue) {
+
+		Link expected = linkTo(invocationValue).withSelfRel();
+
+		assertThat(builder.withSelfRel(), is(expected));
+		assertThat(builder.withSelfRel().getVariables(), is(expected.getVariables()));
+	}
+
+	static class IntegerUriComponentsContributor implements UriComponentsContributor {
+
+		@Override
+		public boolean supportsParameter(MethodParameter parameter) {
+			return Integer.class.equals(parameter.getParameterType());
+		}
+
+		@Override
+		public void enhance(UriComponentsBuilder builder, MethodParameter parameter, Object value) {}
+	}
+}
@@ -15,7 +15,13 @@
  */
 package org.springframework.hateoas.mvc;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import org.junit.After;
 import org.junit.Test;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.http.HttpEntity;
@@ -36,6 +42,86 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 
 	}
 
+	@After
+	public void tearDown() {
+		DummyInvocationUtils.setRecycleProxies(false);
+	}
+
+	@Test
+	public void createsNewProxyPerInvocationByDefault() {
+		assertThat(methodOn(SampleController.class), is(not(sameInstance(methodOn(SampleController.class)))));
+	}
+
+	@Test
+	public void recyclesProxiesIfConfigured() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		SampleController proxy = methodOn(SampleController.class);
+
+		Link first = linkTo(methodOn(SampleController.class).someMethod(1L)).withSelfRel();
+		Link second = linkTo(methodOn(SampleController.class).someMethod(2L)).withSelfRel();
+
+		assertThat(methodOn(SampleController.class), is(sameInstance(proxy)));
+		assertThat(first.getHref(), endsWith("/sample/1/foo"));
+		assertThat(second.getHref(), endsWith("/sample/2/foo"));
+	}
+
+	@Test
+	public void recycledProxyUsesCurrentTypeLevelParameters() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		Link first = linkTo(methodOn(ParameterizedController.class, 1L).someMethod()).withSelfRel();
+		Link second = linkTo(methodOn(ParameterizedController.class, 2L).someMethod()).withSelfRel();
+
+		assertThat(first.getHref(), endsWith("/sample/1/bar"));
+		assertThat(second.getHref(), endsWith("/sample/2/bar"));
+	}
+
+	@Test
+	public void allowsReusingRecycledInvocationResult() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		Object invocationValue = methodOn(ParameterizedController.class, 7L).someMethod();
+
+		assertThat(linkTo(invocationValue).withSelfRel().getHref(), endsWith("/sample/7/bar"));
+		assertThat(linkTo(invocationValue).withRel("x").getHref(), endsWith("/sample/7/bar"));
+	}
+
+	@Test
+	public void keepsTypeLevelParametersOfHeldRecycledProxy() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		ParameterizedController proxy = methodOn(ParameterizedController.class, 42L);
+
+		assertThat(linkTo(proxy.someMethod()).withSelfRel().getHref(), endsWith("/sample/42/bar"));
+		assertThat(linkTo(proxy.otherMethod()).withSelfRel().getHref(), endsWith("/sample/42/baz"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsRecyclingProxyWithUnconsumedInvocation() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		methodOn(SampleController.class).someMethod(1L);
+		methodOn(SampleController.class).someMethod(2L);
+	}
+
+	@Test
+	public void dropsRecycledProxiesWhenReconfigured() {
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		SampleController proxy = methodOn(SampleController.class);
+
+		DummyInvocationUtils.setRecycleProxies(true);
+
+		assertThat(methodOn(SampleController.class), is(not(sameInstance(proxy))));
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 
@@ -44,4 +130,18 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 			return new ResponseEntity<Void>(HttpStatus.OK);
 		}
 	}
+
+	@RequestMapping("/sample/{id}")
+	static class ParameterizedController {
+
+		@RequestMapping("/bar")
+		HttpEntity<Void> someMethod() {
+			return new ResponseEntity<Void>(HttpStatus.OK);
+		}
+
+		@RequestMapping("/baz")
+		HttpEntity<Void> otherMethod() {
+			return new ResponseEntity<Void>(HttpStatus.OK);
+		}
+	}
 }
@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -29,6 +30,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.core.IdentifierLinkExpander;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 /**
@@ -99,6 +101,88 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result, hasItems(firstResource, secondResource));
 	}
 
+	@Test
+	public void createsSelfLinksForParameterizedControllerWhenConvertingMultipleEntities() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		PersonResourceAssembler assembler = new PersonResourceAssembler(ParameterizedController.class) {
+
+			@Override
+			public PersonResource toResource(Person entity) {
+				return createResource(entity, entity, "bar");
+			}
+		};
+
+		List<PersonResource> result = assembler.toResources(Arrays.asList(first, second));
+
+		assertThat(result.get(0).getId().getHref(), endsWith("/people/1/bar/addresses/1"));
+		assertThat(result.get(1).getId().getHref(), endsWith("/people/2/bar/addresses/2"));
+	}
+
+	@Test
+	public void sharesSelfLinkExpanderWhenConvertingMultipleEntities() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		final List<IdentifierLinkExpander> expanders = new ArrayList<IdentifierLinkExpander>();
+
+		PersonResourceAssembler assembler = new PersonResourceAssembler() {
+
+			@Override
+			protected PersonResource toResource(Person entity, IdentifierLinkExpander selfLinks) {
+
+				expanders.add(selfLinks);
+				return createResource(entity, selfLinks);
+			}
+		};
+
+		List<PersonResource> result = assembler.toResources(Arrays.asList(first, second));
+
+		assertThat(result.get(0).getId(), is(linkTo(PersonController.class).slash(1L).withSelfRel()));
+		assertThat(result.get(1).getId(), is(linkTo(PersonController.class).slash(2L).withSelfRel()));
+		assertThat(expanders.get(0), is(sameInstance(expanders.get(1))));
+	}
+
+	@Test
+	public void usesSharedSelfLinkExpanderForDefaultConversion() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		final List<IdentifierLinkExpander> expanders = new ArrayList<IdentifierLinkExpander>();
+
+		PersonResourceAssembler assembler = new PersonResourceAssembler() {
+
+			@Override
+			protected PersonResource createResourceWithId(Object id, Person entity, IdentifierLinkExpander selfLinks) {
+
+				expanders.add(selfLinks);
+				return super.createResourceWithId(id, entity, selfLinks);
+			}
+		};
+
+		List<PersonResource> result = assembler.toResources(Arrays.asList(first, second));
+
+		assertThat(result.get(0).getId(), is(linkTo(PersonController.class).slash(1L).withSelfRel()));
+		assertThat(result.get(1).getId(), is(linkTo(PersonController.class).slash(2L).withSelfRel()));
+		assertThat(expanders.size(), is(2));
+		assertThat(expanders.get(0), is(sameInstance(expanders.get(1))));
+
+		expanders.clear();
+		assembler.toResource(first);
+
+		assertThat(expanders.isEmpty(), is(true));
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 